@@ -5,6 +5,7 @@ import dan200.computercraft.api.turtle.TurtleUpgradeSerialiser;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
@@ -28,8 +29,12 @@ import net.minecraft.util.math.BlockPos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @SuppressWarnings("unchecked")
 public class CCChunkloader implements ModInitializer {
@@ -102,6 +107,7 @@ public class CCChunkloader implements ModInitializer {
 		ServerWorldEvents.LOAD.register(this::onWorldLoad);
 		ServerWorldEvents.UNLOAD.register(this::onWorldUnload);
 		ServerChunkEvents.CHUNK_UNLOAD.register(this::onChunkUnload);
+		ServerTickEvents.END_WORLD_TICK.register(ChunkManager::onEndWorldTick);
 		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> ChunkloaderCommand.register(dispatcher));
 
 		// Initialize RandomTickOrchestrator for turtle random ticking
@@ -129,19 +135,23 @@ public class CCChunkloader implements ModInitializer {
             NbtCompound savedData = persistentState.getChunkManagerData();
 
             ChunkManager.DeserializationResult result = chunkManager.deserializeFromNbt(savedData);
+            chunkManager.replayJournal();
 
             populateRegistryWithRestoredTurtles(world, chunkManager);
+            persistentState.attach(chunkManager);
 
             int dormantCount = result.total - result.toWake;
             LOGGER.info("Loaded turtle states for {}: {} total ({} to wake, {} dormant).",
                         world.getRegistryKey().getValue(), result.total, result.toWake, dormantCount);
         } else {
             LOGGER.info("No saved turtle states found for dimension: {}.", world.getRegistryKey().getValue());
+            persistentState.attach(ChunkManager.get(world));
         }
     }
 
 	private void onWorldUnload(MinecraftServer server, ServerWorld world) {
-        saveChunkManagerState(world);
+        awaitSaves(List.of(saveChunkManagerState(world)));
+        RandomTickOrchestrator.getInstance().removeWorld(world);
     }
 
 	/**
@@ -149,57 +159,68 @@ public class CCChunkloader implements ModInitializer {
 	 */
 	private void onChunkUnload(ServerWorld world, net.minecraft.world.chunk.WorldChunk chunk) {
 		ChunkPos chunkPos = chunk.getPos();
+		long chunkKey = chunkPos.toLong();
 		
 		// Find any active peripherals in this chunk and clean them up immediately
-		Map<UUID, ChunkLoaderPeripheral> activePeripherals = ChunkLoaderRegistry.getAllPeripherals();
+		List<ChunkLoaderPeripheral> peripherals = ChunkLoaderRegistry.getPeripheralsInChunk(world, chunkKey);
 		
-		for (Map.Entry<UUID, ChunkLoaderPeripheral> entry : activePeripherals.entrySet()) {
-			UUID turtleId = entry.getKey();
-			ChunkLoaderPeripheral peripheral = entry.getValue();
+		for (ChunkLoaderPeripheral peripheral : peripherals) {
+			UUID turtleId = peripheral.getTurtleId();
 			
-			// Check if this peripheral's turtle is in the unloading chunk
-			if (peripheral.getTurtleLevel() == world) {
-				BlockPos turtlePos = peripheral.getTurtlePosition();
-				if (turtlePos != null) {
-					ChunkPos turtleChunk = new ChunkPos(turtlePos);
-					if (turtleChunk.equals(chunkPos)) {
-						LOGGER.debug("Chunk {} unloaded, removing turtle {} peripheral", chunkPos, turtleId);
-						
-						// Clean up the peripheral immediately - no more zombie peripherals!
-						peripheral.cleanup();
-						
-						// Fire unload event for coordination
-						TurtleStateManager.TurtleState state = stateManager.getState(turtleId);
-						eventSystem.fireEvent(new TurtleStateEvents.TurtleUnloadedEvent(turtleId, state, "chunk_unload"));
-					}
-				}
+			// The index is refreshed on the turtle's tick, so confirm it hasn't just moved out
+			BlockPos turtlePos = peripheral.getTurtlePosition();
+			if (turtlePos != null && ChunkPos.toLong(turtlePos.getX() >> 4, turtlePos.getZ() >> 4) == chunkKey) {
+				LOGGER.debug("Chunk {} unloaded, removing turtle {} peripheral", chunkPos, turtleId);
+				
+				// Clean up the peripheral immediately - no more zombie peripherals!
+				peripheral.cleanup();
+				
+				// Fire unload event for coordination
+				TurtleStateManager.TurtleState state = stateManager.getState(turtleId);
+				eventSystem.fireEvent(new TurtleStateEvents.TurtleUnloadedEvent(turtleId, state, "chunk_unload"));
 			}
 		}
 	}
 
 	/**
      * Save ChunkManager state for a specific world and log a summary.
+     * The records are copied now; encoding finishes on the save executor when the future completes.
      */
-    private void saveChunkManagerState(ServerWorld world) {
+    private CompletableFuture<Void> saveChunkManagerState(ServerWorld world) {
         ChunkManager chunkManager = ChunkManager.get(world);
         ChunkManagerPersistentState persistentState = ChunkManagerPersistentState.getWorldState(world);
 
-        NbtCompound serializedData = chunkManager.serializeToNbt();
-        persistentState.saveChunkManagerData(serializedData);
-
-        int savedCount = serializedData.getList("turtleStates", 10).size();
-        LOGGER.info("Saved {} turtle states for dimension: {}.", savedCount, world.getRegistryKey().getValue());
+        return persistentState.saveAsyncIfChanged(chunkManager).thenAccept(saved -> {
+            if (!saved) {
+                LOGGER.debug("Turtle states unchanged for dimension: {}, skipping save.", world.getRegistryKey().getValue());
+                return;
+            }
+            Map<String, Object> stats = persistentState.getSaveStats();
+            LOGGER.info("Saved turtle states for dimension: {} (snapshot {} us, encode {} us).", world.getRegistryKey().getValue(),
+                        (Long) stats.get("snapshotNanos") / 1000, (Long) stats.get("encodeNanos") / 1000);
+        });
     }
 
 	/**
-	 * Save all ChunkManager states across all worlds
+	 * Save all ChunkManager states across all worlds, encoding them in parallel
 	 */
 	private void saveAllChunkManagerStates(MinecraftServer server) {
-
+		List<CompletableFuture<Void>> saves = new ArrayList<>();
 		for (ServerWorld world : server.getWorlds()) {
-			saveChunkManagerState(world);
+			saves.add(saveChunkManagerState(world));
 		}
+		awaitSaves(saves);
+	}
 
+	/**
+	 * Wait for pending saves so nothing is lost when the server or world goes away
+	 */
+	private void awaitSaves(List<CompletableFuture<Void>> saves) {
+		try {
+			CompletableFuture.allOf(saves.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			LOGGER.error("Failed to save turtle states", e.getCause());
+		}
 	}
 
 	/**
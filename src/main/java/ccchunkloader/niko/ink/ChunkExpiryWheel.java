@@ -0,0 +1,100 @@
+package ccchunkloader.niko.ink;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Hashed timing wheel for packed chunk positions that expire at a given tick.
+ * Each tick only visits the slot for that tick, so the cost is proportional to the
+ * number of chunks expiring (plus later rounds hashed to the same slot), not to the
+ * number of chunks waiting. Cancelled entries are dropped lazily when their slot comes up.
+ * Not thread-safe - callers synchronize externally.
+ */
+public class ChunkExpiryWheel {
+    private static final long NOT_SCHEDULED = -1L;
+
+    private final LongArrayList[] slots;
+    private final int mask;
+    // Authoritative expiry tick per chunk; slot entries without a matching deadline are stale
+    private final Long2LongOpenHashMap deadlines = new Long2LongOpenHashMap();
+
+    /**
+     * @param slotCount Number of wheel slots, rounded up to a power of two
+     */
+    public ChunkExpiryWheel(int slotCount) {
+        int size = Integer.highestOneBit(Math.max(1, slotCount - 1)) << 1;
+        this.slots = new LongArrayList[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new LongArrayList();
+        }
+        this.mask = size - 1;
+        deadlines.defaultReturnValue(NOT_SCHEDULED);
+    }
+
+    /**
+     * Schedule a chunk to expire at the given tick, replacing any earlier schedule
+     */
+    public void schedule(long packedChunk, long expiryTick) {
+        deadlines.put(packedChunk, expiryTick);
+        slots[(int) (expiryTick & mask)].add(packedChunk);
+    }
+
+    /**
+     * Cancel a scheduled chunk
+     * @return true if the chunk was waiting to expire
+     */
+    public boolean cancel(long packedChunk) {
+        return deadlines.remove(packedChunk) != NOT_SCHEDULED;
+    }
+
+    /**
+     * Check if a chunk is waiting to expire
+     */
+    public boolean contains(long packedChunk) {
+        return deadlines.containsKey(packedChunk);
+    }
+
+    /**
+     * Number of chunks waiting to expire
+     */
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Expire every chunk due at this tick. Must be called once for every consecutive tick.
+     */
+    public void advance(long tick, LongConsumer onExpired) {
+        int slotIndex = (int) (tick & mask);
+        LongArrayList slot = slots[slotIndex];
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            long packedChunk = slot.getLong(i);
+            long deadline = deadlines.get(packedChunk);
+            if (deadline == tick) {
+                deadlines.remove(packedChunk);
+                onExpired.accept(packedChunk);
+            } else if (deadline > tick && (deadline & mask) == slotIndex) {
+                // Due in a later round of the wheel
+                slot.set(kept++, packedChunk);
+            }
+            // Otherwise the entry was cancelled or rescheduled into another slot
+        }
+        slot.size(kept);
+    }
+
+    /**
+     * Remove all scheduled chunks
+     * @return the chunks that were waiting to expire
+     */
+    public long[] clear() {
+        long[] waiting = deadlines.keySet().toLongArray();
+        deadlines.clear();
+        for (LongArrayList slot : slots) {
+            slot.clear();
+        }
+        return waiting;
+    }
+}
@@ -0,0 +1,212 @@
+package ccchunkloader.niko.ink;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Immutable footprint template for a loading radius and random tick setting.
+ * Holds the chunk offsets relative to the turtle's chunk and the total fuel cost per tick,
+ * so chunk loading and fuel costing are both table lookups.
+ * Also holds precomputed edge tables for the 8 single-chunk moves, so a turtle that
+ * steps into a neighbouring chunk only needs to load its leading edge and release
+ * its trailing edge instead of rebuilding the whole disk.
+ * Templates bake in the fuel config, so invalidateAll() must be called when it changes.
+ * A chunk is inside the disk when its squared distance is below radius squared, and squared
+ * distances are whole numbers, so every radius with the same ceil(radius^2) shares one template.
+ */
+public final class ChunkFootprint {
+    // Move directions: E, SE, S, SW, W, NW, N, NE
+    private static final int[] DIRECTION_X = {1, 1, 0, -1, -1, -1, 0, 1};
+    private static final int[] DIRECTION_Z = {0, 1, 1, 1, 0, -1, -1, -1};
+
+    // Keyed by shapeKey(radius), one cache per random tick setting (guarded by CACHE)
+    private static final Long2ObjectOpenHashMap<ChunkFootprint> CACHE = new Long2ObjectOpenHashMap<>();
+    private static final Long2ObjectOpenHashMap<ChunkFootprint> RANDOM_TICK_CACHE = new Long2ObjectOpenHashMap<>();
+    // Bumped on every invalidation so holders of a template can tell it is stale
+    private static volatile int generation = 0;
+
+    private final long shapeKey; // Chunks with squared distance below this are inside
+    private final boolean randomTick;
+    private final int templateGeneration;
+    private final long[] offsets;
+    private final double fuelCost;
+    // Per direction, offsets relative to the OLD center that enter / leave the footprint
+    private final long[][] leadingEdges;
+    private final long[][] trailingEdges;
+
+    private ChunkFootprint(long shapeKey, int templateGeneration) {
+        this.shapeKey = shapeKey;
+        this.randomTick = false;
+        this.templateGeneration = templateGeneration;
+        this.leadingEdges = new long[DIRECTION_X.length][];
+        this.trailingEdges = new long[DIRECTION_X.length][];
+
+        LongArrayList disk = new LongArrayList();
+        if (shapeKey > 0) {
+            int searchRadius = (int) Math.ceil(Math.sqrt(shapeKey));
+            for (int x = -searchRadius; x <= searchRadius; x++) {
+                for (int z = -searchRadius; z <= searchRadius; z++) {
+                    if ((long) x * x + (long) z * z < shapeKey) {
+                        disk.add(ChunkPos.toLong(x, z));
+                    }
+                }
+            }
+        }
+        this.offsets = disk.toLongArray();
+        this.fuelCost = computeFuelCost(offsets);
+
+        LongOpenHashSet current = new LongOpenHashSet(offsets);
+        for (int direction = 0; direction < DIRECTION_X.length; direction++) {
+            int dx = DIRECTION_X[direction];
+            int dz = DIRECTION_Z[direction];
+            LongOpenHashSet shifted = new LongOpenHashSet(offsets.length);
+            for (long offset : offsets) {
+                shifted.add(ChunkPos.toLong(ChunkPos.getPackedX(offset) + dx, ChunkPos.getPackedZ(offset) + dz));
+            }
+
+            LongArrayList leading = new LongArrayList();
+            LongIterator iterator = shifted.iterator();
+            while (iterator.hasNext()) {
+                long offset = iterator.nextLong();
+                if (!current.contains(offset)) {
+                    leading.add(offset);
+                }
+            }
+            LongArrayList trailing = new LongArrayList();
+            for (long offset : offsets) {
+                if (!shifted.contains(offset)) {
+                    trailing.add(offset);
+                }
+            }
+            leadingEdges[direction] = leading.toLongArray();
+            trailingEdges[direction] = trailing.toLongArray();
+        }
+    }
+
+    /**
+     * Random tick variant sharing the shape and edge tables of a plain template
+     */
+    private ChunkFootprint(ChunkFootprint shape) {
+        this.shapeKey = shape.shapeKey;
+        this.randomTick = true;
+        this.templateGeneration = shape.templateGeneration;
+        this.offsets = shape.offsets;
+        this.leadingEdges = shape.leadingEdges;
+        this.trailingEdges = shape.trailingEdges;
+        this.fuelCost = shape.fuelCost * Config.RANDOM_TICK_FUEL_MULTIPLIER;
+    }
+
+    private static double computeFuelCost(long[] offsets) {
+        double totalCost = 0.0;
+        for (long offset : offsets) {
+            int x = ChunkPos.getPackedX(offset);
+            int z = ChunkPos.getPackedZ(offset);
+            double distance = Math.sqrt(x * x + z * z);
+            totalCost += Config.BASE_FUEL_COST_PER_CHUNK * Math.pow(Config.DISTANCE_MULTIPLIER, distance);
+        }
+        return totalCost;
+    }
+
+    /**
+     * Get the (cached) template for a radius and random tick setting
+     */
+    public static ChunkFootprint forRadius(double radius, boolean randomTick) {
+        long key = shapeKey(radius);
+        synchronized (CACHE) {
+            ChunkFootprint footprint = (randomTick ? RANDOM_TICK_CACHE : CACHE).get(key);
+            if (footprint == null) {
+                ChunkFootprint shape = CACHE.get(key);
+                if (shape == null) {
+                    shape = new ChunkFootprint(key, generation);
+                    CACHE.put(key, shape);
+                }
+                footprint = shape;
+                if (randomTick) {
+                    footprint = new ChunkFootprint(shape);
+                    RANDOM_TICK_CACHE.put(key, footprint);
+                }
+            }
+            return footprint;
+        }
+    }
+
+    /**
+     * Cache key for a radius: the smallest whole squared distance outside the disk, 0 for no disk
+     */
+    private static long shapeKey(double radius) {
+        return radius > 0.0 ? (long) Math.ceil(radius * radius) : 0L;
+    }
+
+    /**
+     * Drop all cached templates. Called when a fuel cost setting changes.
+     */
+    public static void invalidateAll() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            RANDOM_TICK_CACHE.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * Get the edge table index for a move between chunk centers
+     * @return direction index, or -1 if the move is not a single step (no move, teleport, large jump)
+     */
+    public static int directionOf(int dx, int dz) {
+        for (int direction = 0; direction < DIRECTION_X.length; direction++) {
+            if (DIRECTION_X[direction] == dx && DIRECTION_Z[direction] == dz) {
+                return direction;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if this template has the same chunks as the footprint for a radius
+     */
+    public boolean matches(double radius) {
+        return shapeKey == shapeKey(radius);
+    }
+
+    public boolean isRandomTick() {
+        return randomTick;
+    }
+
+    /**
+     * Check if this template was built from the current fuel config
+     */
+    public boolean isCurrent() {
+        return templateGeneration == generation;
+    }
+
+    /**
+     * Total fuel consumed per tick by this footprint
+     */
+    public double getFuelCost() {
+        return fuelCost;
+    }
+
+    /**
+     * Packed offsets (ChunkPos.toLong(dx, dz)) of every chunk in the footprint
+     */
+    public long[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Offsets, relative to the old center, of chunks entering the footprint when moving in a direction
+     */
+    public long[] getLeadingEdge(int direction) {
+        return leadingEdges[direction];
+    }
+
+    /**
+     * Offsets, relative to the old center, of chunks leaving the footprint when moving in a direction
+     */
+    public long[] getTrailingEdge(int direction) {
+        return trailingEdges[direction];
+    }
+}
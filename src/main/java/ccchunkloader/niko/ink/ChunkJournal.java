@@ -0,0 +1,337 @@
+package ccchunkloader.niko.ink;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.WorldSavePath;
+import net.minecraft.world.dimension.DimensionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of turtle state changes that must survive a crash between saves.
+ * One file per world next to its saved data, made of fixed-size records:
+ * type (4) | sequence (8) | UUID (16) | value (8) | CRC32 of the preceding bytes (4).
+ * Besides turtle changes the file holds save markers, which record the compaction cut-off
+ * so it carries over a restart.
+ * Appends are buffered and forced to disk together every Config.JOURNAL_COMMIT_TICKS; a failed
+ * commit cuts the file back to its last good record and keeps the buffer for the next try.
+ * Replay stops at the first torn or corrupt record. Thread-safe.
+ */
+public class ChunkJournal {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkJournal.class);
+
+    public static final int RADIUS = 1; // value: radius as double bits
+    public static final int WAKE = 2; // value: 1 or 0
+    public static final int RADIUS_OVERRIDE = 3; // value: override radius as double bits
+    public static final int CLEAR_RADIUS_OVERRIDE = 4; // value unused
+    private static final int SAVE_MARKER = 5; // value: last sequence before the previous full save, never an entry
+    private static final UUID SAVE_MARKER_ID = new UUID(0L, 0L);
+
+    private static final int RECORD_SIZE = 40;
+    private static final int CHECKSUM_OFFSET = RECORD_SIZE - 4;
+    private static final int BUFFERED_RECORDS = 256; // Commit early once this many are waiting
+    private static final String FILE_NAME = "ccchunkloader_journal.bin";
+
+    /**
+     * One journaled change
+     */
+    public static final class Entry {
+        public final int type;
+        public final long sequence;
+        public final UUID turtleId;
+        public final long value;
+
+        Entry(int type, long sequence, UUID turtleId, long value) {
+            this.type = type;
+            this.sequence = sequence;
+            this.turtleId = turtleId;
+            this.value = value;
+        }
+
+        public double doubleValue() {
+            return Double.longBitsToDouble(value);
+        }
+    }
+
+    private final Path path;
+    private FileChannel channel; // null if the journal couldn't be opened
+    private ByteBuffer pending = ByteBuffer.allocate(RECORD_SIZE * BUFFERED_RECORDS); // Grows if commits keep failing
+    private long committedBytes = 0; // File length up to the last record known to be on disk
+    private final List<Entry> entries = new ArrayList<>(); // Everything in the file plus pending, in order
+    private long nextSequence = 1;
+    private long lastSaveSequence = 0; // Highest sequence written before the previous full save, kept in save markers
+    private long commits = 0;
+    private long compactions = 0;
+
+    private ChunkJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Open a world's journal, reading back what it already holds.
+     * On failure the journal stays usable but records nothing.
+     */
+    public static ChunkJournal open(ServerWorld world) {
+        Path dataDir = DimensionType.getSaveDirectory(world.getRegistryKey(), world.getServer().getSavePath(WorldSavePath.ROOT))
+            .resolve("data");
+        ChunkJournal journal = new ChunkJournal(dataDir.resolve(FILE_NAME));
+        try {
+            Files.createDirectories(dataDir);
+            journal.load();
+            journal.channel = FileChannel.open(journal.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // Drop any torn tail so new records follow the last good one
+            journal.channel.truncate(journal.committedBytes);
+            journal.channel.position(journal.committedBytes);
+        } catch (IOException e) {
+            LOGGER.error("Failed to open turtle journal {}, changes will only persist on full saves", journal.path, e);
+            journal.channel = null;
+        }
+        return journal;
+    }
+
+    /**
+     * Buffer a change; it becomes durable at the next commit
+     */
+    public synchronized void append(int type, UUID turtleId, long value) {
+        if (channel == null) {
+            return;
+        }
+        Entry entry = new Entry(type, nextSequence++, turtleId, value);
+        entries.add(entry);
+        buffer(entry);
+        if (pending.position() >= RECORD_SIZE * BUFFERED_RECORDS) {
+            commit();
+        }
+    }
+
+    public void appendDouble(int type, UUID turtleId, double value) {
+        append(type, turtleId, Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Write buffered records and force them to disk.
+     * On failure the records stay buffered and the file is cut back to the last good record,
+     * so a torn write doesn't hide the records appended after it from replay.
+     */
+    public synchronized void commit() {
+        if (channel == null || pending.position() == 0) {
+            return;
+        }
+        int buffered = pending.position();
+        pending.flip();
+        try {
+            if (channel.position() != committedBytes) {
+                truncateToCommitted(); // Left over from a failed commit
+            }
+            while (pending.hasRemaining()) {
+                channel.write(pending);
+            }
+            channel.force(false);
+            committedBytes = channel.position();
+            pending.clear();
+            commits++;
+        } catch (IOException e) {
+            LOGGER.error("Failed to commit turtle journal {}, keeping {} records for the next commit",
+                         path, buffered / RECORD_SIZE, e);
+            pending.limit(pending.capacity());
+            pending.position(buffered);
+            try {
+                truncateToCommitted();
+            } catch (IOException truncate) {
+                LOGGER.error("Failed to cut turtle journal {} back to its last good record", path, truncate);
+            }
+        }
+    }
+
+    /**
+     * Entries to replay over the last saved snapshot, oldest first
+     */
+    public synchronized List<Entry> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Called after a full save. Changes older than the save before it are on disk elsewhere
+     * by now (turtle NBT is saved with its chunk, which can lag our saved data by one save),
+     * so they are dropped, keeping only the latest entry per turtle and kind.
+     * Radius overrides are not part of the snapshot and are kept until cleared.
+     * The cut-off is written as a save marker, so the first compaction after a restart
+     * still knows which entries predate the save before it.
+     */
+    public synchronized void compact() {
+        if (channel == null) {
+            return;
+        }
+        commit();
+        if (pending.position() != 0) {
+            return; // Commit failed, leave everything for the next save
+        }
+        long saved = lastSaveSequence;
+        lastSaveSequence = nextSequence - 1;
+
+        // Latest entry per turtle and kind; set and clear of an override share a kind
+        Map<String, Entry> latest = new HashMap<>();
+        for (Entry entry : entries) {
+            int kind = entry.type == CLEAR_RADIUS_OVERRIDE ? RADIUS_OVERRIDE : entry.type;
+            latest.put(entry.turtleId + ":" + kind, entry);
+        }
+        List<Entry> kept = new ArrayList<>();
+        for (Entry entry : entries) {
+            int kind = entry.type == CLEAR_RADIUS_OVERRIDE ? RADIUS_OVERRIDE : entry.type;
+            if (latest.get(entry.turtleId + ":" + kind) != entry) {
+                continue;
+            }
+            if (entry.sequence <= saved && entry.type != RADIUS_OVERRIDE) {
+                continue;
+            }
+            kept.add(entry);
+        }
+        // Sequence 0 so markers don't move the next cut-off
+        Entry marker = new Entry(SAVE_MARKER, 0L, SAVE_MARKER_ID, lastSaveSequence);
+        if (kept.size() == entries.size()) {
+            if (lastSaveSequence != saved) {
+                buffer(marker);
+                commit();
+            }
+            return;
+        }
+
+        // Rewrite to a temporary file and swap it in, so a crash leaves one or the other
+        Path temp = path.resolveSibling(FILE_NAME + ".tmp");
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate((kept.size() + 1) * RECORD_SIZE);
+            for (Entry entry : kept) {
+                encode(entry, buffer);
+            }
+            encode(marker, buffer);
+            buffer.flip();
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(false);
+            }
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.WRITE);
+            committedBytes = channel.size();
+            channel.position(committedBytes);
+            LOGGER.debug("Compacted turtle journal {}: {} -> {} entries", path, entries.size(), kept.size());
+            entries.clear();
+            entries.addAll(kept);
+            compactions++;
+        } catch (IOException e) {
+            LOGGER.error("Failed to compact turtle journal {}", path, e);
+            try {
+                if (channel == null || !channel.isOpen()) {
+                    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    committedBytes = channel.size();
+                    channel.position(committedBytes);
+                }
+            } catch (IOException reopen) {
+                LOGGER.error("Failed to reopen turtle journal {}", path, reopen);
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Commit and close the file
+     */
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        commit();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.error("Failed to close turtle journal {}", path, e);
+        }
+        channel = null;
+    }
+
+    /**
+     * Get journal counters for debugging
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("open", channel != null);
+        stats.put("entries", entries.size());
+        stats.put("pending", pending.position() / RECORD_SIZE);
+        stats.put("commits", commits);
+        stats.put("compactions", compactions);
+        return stats;
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= RECORD_SIZE) {
+            int start = buffer.position();
+            crc.reset();
+            crc.update(buffer.array(), start, CHECKSUM_OFFSET);
+            int type = buffer.getInt();
+            long sequence = buffer.getLong();
+            UUID turtleId = new UUID(buffer.getLong(), buffer.getLong());
+            long value = buffer.getLong();
+            int checksum = buffer.getInt();
+            if (checksum != (int) crc.getValue()) {
+                LOGGER.warn("Turtle journal {} has a corrupt record at byte {}, ignoring the rest", path, start);
+                break;
+            }
+            committedBytes = buffer.position();
+            if (type == SAVE_MARKER) {
+                lastSaveSequence = Math.max(lastSaveSequence, value);
+                continue;
+            }
+            entries.add(new Entry(type, sequence, turtleId, value));
+            nextSequence = Math.max(nextSequence, sequence + 1);
+        }
+        LOGGER.info("Read {} entries from turtle journal {}", entries.size(), path);
+    }
+
+    private void buffer(Entry entry) {
+        if (pending.remaining() < RECORD_SIZE) {
+            ByteBuffer grown = ByteBuffer.allocate(pending.capacity() * 2);
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+        encode(entry, pending);
+    }
+
+    private void truncateToCommitted() throws IOException {
+        channel.truncate(committedBytes);
+        channel.position(committedBytes);
+    }
+
+    private static void encode(Entry entry, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(entry.type);
+        buffer.putLong(entry.sequence);
+        buffer.putLong(entry.turtleId.getMostSignificantBits());
+        buffer.putLong(entry.turtleId.getLeastSignificantBits());
+        buffer.putLong(entry.value);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), start, CHECKSUM_OFFSET);
+        buffer.putInt((int) crc.getValue());
+    }
+}
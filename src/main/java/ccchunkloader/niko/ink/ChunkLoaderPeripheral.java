@@ -8,7 +8,9 @@ import dan200.computercraft.api.turtle.TurtleSide;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -26,6 +28,7 @@ public class ChunkLoaderPeripheral implements IPeripheral {
     private static final String FUEL_DEBT_KEY = "FuelDebt";
     private static final String WAKE_ON_WORLD_LOAD_KEY = "WakeOnWorldLoad";
     private static final String RANDOM_TICK_ENABLED_KEY = "RandomTickEnabled";
+    private static final String LOAD_LEVEL_KEY = "LoadLevel";
     private static final String LAST_CHUNK_POS_KEY = "LastChunkPos";
     
     // Fuel and calculation constants
@@ -41,8 +44,13 @@ public class ChunkLoaderPeripheral implements IPeripheral {
     private double fuelDebt = 0.0; // Accumulated fractional fuel debt
     private boolean wakeOnWorldLoad = false; // Whether to auto-activate on world load
     private boolean randomTickEnabled = false; // Whether random ticking is enabled for this turtle's chunks
+    private LoadLevel loadLevel = LoadLevel.FULL; // How strongly this turtle's chunks are kept loaded
     private boolean computerIdRegistered = false; // Whether UUID has been registered with computer ID
     private boolean isDirty = false; // Whether state has unsaved changes
+    private long loadedFootprintCenter = 0L; // Packed chunk the footprint in ChunkManager is centered on
+    private double loadedFootprintRadius = 0.0; // Radius of that footprint, 0 when none is loaded
+    private volatile ChunkManager cachedManager = null; // Manager for the turtle's world, reused across ticks and Lua calls
+    private ChunkFootprint fuelFootprint = null; // Template last used for fuel costing
 
     public ChunkLoaderPeripheral(ITurtleAccess turtle, TurtleSide side) {
         this.turtle = turtle;
@@ -143,26 +151,26 @@ public class ChunkLoaderPeripheral implements IPeripheral {
 
             if (oldRadius > 0.0) {
                 int removedCount = manager.getLoadedChunkCount(turtleId);
-                manager.removeAllChunks(turtleId);
+                unloadFootprint(manager);
                 LOGGER.info("🔄 CHUNK UNLOAD: Turtle {} removed {} force-loaded chunks (radius {} -> {})", 
                            turtleId, removedCount, oldRadius, newRadius);
             }
 
             if (newRadius > 0.0) {
                 ChunkPos currentChunk = new ChunkPos(turtle.getPosition());
-                Set<ChunkPos> chunksToLoad = computeChunks(currentChunk, newRadius);
-                manager.addChunksFromSet(turtleId, chunksToLoad);
+                loadFootprint(manager, currentChunk, newRadius);
                 lastChunkPos = currentChunk;
                 LOGGER.info("🔄 CHUNK LOAD: Turtle {} force-loaded {} chunks at radius {} (center: {})",
-                           turtleId, chunksToLoad.size(), newRadius, currentChunk);
+                           turtleId, manager.getLoadedChunkCount(turtleId), newRadius, currentChunk);
             } else {
                 lastChunkPos = null;
                 LOGGER.info("🔄 CHUNK CLEAR: Turtle {} cleared all force-loaded chunks (radius set to 0)", turtleId);
             }
 
-            // Force save state after critical radius change
+            // Force save state after critical radius change, journaled so it survives a crash before the chunk saves
             markDirty();
             forceSaveState();
+            manager.journalRadius(turtleId, newRadius);
         } catch (Exception e) {
             LOGGER.error("Failed to set radius asynchronously for turtle {}: {}", turtleId, e.getMessage());
         }
@@ -190,7 +198,7 @@ public class ChunkLoaderPeripheral implements IPeripheral {
     // Helper methods (internal use)
     public int getLoadedChunkCount() {
         if (turtle.getLevel() instanceof ServerWorld serverWorld) {
-            ChunkManager manager = ChunkManager.get(serverWorld);
+            ChunkManager manager = getManager(serverWorld);
             return manager.getLoadedChunkCount(turtleId);
         }
         return 0;
@@ -212,7 +220,9 @@ public class ChunkLoaderPeripheral implements IPeripheral {
 
         // Touch the chunk manager to ensure this state change is persisted
         if (turtle.getLevel() instanceof ServerWorld serverWorld) {
-            ChunkManager.get(serverWorld).touch(turtleId);
+            ChunkManager manager = ChunkManager.get(serverWorld);
+            manager.touch(turtleId);
+            manager.journalWake(turtleId, wake);
         }
 
         LOGGER.debug("Turtle {} wake on world load set to {}", turtleId, wake);
@@ -241,50 +251,104 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         return isRandomTickEnabled();
     }
 
+    /**
+     * Set how strongly loaded chunks are kept loaded. Cheaper levels cost less fuel.
+     * @param level "full" (entities tick), "block" (block entities only) or "border" (resident, nothing ticks; the turtle's own chunk stays at block)
+     * @throws LuaException If the level is unknown
+     */
+    @LuaFunction
+    public final void setLoadLevel(String level) throws LuaException {
+        LoadLevel newLevel = LoadLevel.fromName(level);
+        if (newLevel == null) {
+            throw new LuaException("Unknown load level '" + level + "' (expected full, block or border)");
+        }
+        this.loadLevel = newLevel;
+        markDirty();
+        forceSaveState();
+
+        if (turtle.getLevel() instanceof ServerWorld serverWorld) {
+            serverWorld.getServer().execute(() -> ChunkManager.get(serverWorld).setTurtleLoadLevel(turtleId, newLevel));
+        }
+
+        LOGGER.debug("Turtle {} load level set to {}", turtleId, newLevel.getName());
+    }
+
+    @LuaFunction
+    public final String getLoadLevel() {
+        return loadLevel.getName();
+    }
+
     public double calculateFuelCost() {
         if (radius <= 0.0) return 0.0;
 
-        ChunkPos centerChunk = new ChunkPos(turtle.getPosition());
-        Set<ChunkPos> chunks = computeChunks(centerChunk, radius);
-        double totalCost = 0.0;
-
-        for (ChunkPos chunkPos : chunks) {
-            int x = chunkPos.x - centerChunk.x;
-            int z = chunkPos.z - centerChunk.z;
-            double distance = Math.sqrt(x * x + z * z);
-            double chunkCost = Config.BASE_FUEL_COST_PER_CHUNK * Math.pow(Config.DISTANCE_MULTIPLIER, distance);
-            totalCost += chunkCost;
+        ChunkFootprint footprint = fuelFootprint;
+        if (footprint == null || !footprint.matches(radius)
+                || footprint.isRandomTick() != randomTickEnabled || !footprint.isCurrent()) {
+            footprint = ChunkFootprint.forRadius(radius, randomTickEnabled);
+            fuelFootprint = footprint;
         }
-
-        if (randomTickEnabled) {
-            totalCost *= Config.RANDOM_TICK_FUEL_MULTIPLIER;
+        // The forced backend loads every level as FULL, so only discount levels that are honoured
+        double multiplier = 1.0;
+        if (loadLevel != LoadLevel.FULL && turtle.getLevel() instanceof ServerWorld serverWorld
+                && getManager(serverWorld).supportsLoadLevels()) {
+            multiplier = loadLevel.getFuelMultiplier();
         }
-
-        return totalCost;
+        return footprint.getFuelCost() * multiplier;
     }
 
     private Set<ChunkPos> computeChunks(ChunkPos centerChunk, double radius) {
         Set<ChunkPos> chunks = new HashSet<>();
         if (radius <= 0.0) return chunks;
 
-        int searchRadius = (int) Math.ceil(radius) + 1;
-        for (int x = -searchRadius; x <= searchRadius; x++) {
-            for (int z = -searchRadius; z <= searchRadius; z++) {
-                double distance = Math.sqrt(x * x + z * z);
-                if (distance < radius) {
-                    chunks.add(new ChunkPos(centerChunk.x + x, centerChunk.z + z));
-                }
-            }
+        for (long offset : ChunkFootprint.forRadius(radius, false).getOffsets()) {
+            chunks.add(new ChunkPos(centerChunk.x + ChunkPos.getPackedX(offset), centerChunk.z + ChunkPos.getPackedZ(offset)));
         }
         return chunks;
     }
 
+    /**
+     * Load the footprint around a chunk. When the turtle stepped one chunk away from the
+     * footprint it already has loaded, only the leading and trailing edges are sent to
+     * ChunkManager; teleports, large jumps and radius changes recompute the whole disk.
+     */
+    private void loadFootprint(ChunkManager manager, ChunkPos centerChunk, double loadRadius) {
+        manager.setTurtleLoadLevel(turtleId, loadLevel);
+        manager.setTurtleRandomTick(turtleId, randomTickEnabled);
+        if (loadedFootprintRadius == loadRadius && manager.hasLoadedChunks(turtleId)) {
+            int oldX = ChunkPos.getPackedX(loadedFootprintCenter);
+            int oldZ = ChunkPos.getPackedZ(loadedFootprintCenter);
+            int direction = ChunkFootprint.directionOf(centerChunk.x - oldX, centerChunk.z - oldZ);
+            if (direction >= 0) {
+                ChunkFootprint footprint = ChunkFootprint.forRadius(loadRadius, false);
+                manager.applyFootprintDelta(turtleId, oldX, oldZ,
+                                            footprint.getLeadingEdge(direction), footprint.getTrailingEdge(direction));
+                manager.setTurtleAnchor(turtleId, centerChunk.x, centerChunk.z);
+                loadedFootprintCenter = centerChunk.toLong();
+                return;
+            }
+        }
+
+        ChunkFootprint footprint = ChunkFootprint.forRadius(loadRadius, false);
+        manager.addChunksFromFootprint(turtleId, centerChunk.x, centerChunk.z, footprint.getOffsets());
+        manager.setTurtleAnchor(turtleId, centerChunk.x, centerChunk.z);
+        loadedFootprintCenter = centerChunk.toLong();
+        loadedFootprintRadius = loadRadius;
+    }
+
+    /**
+     * Release every chunk this turtle is loading
+     */
+    private void unloadFootprint(ChunkManager manager) {
+        manager.removeAllChunks(turtleId);
+        loadedFootprintRadius = 0.0;
+    }
+
     /**
      * Cleanup chunks when radius is 0 to ensure no chunks remain loaded
      */
     private void cleanupInactiveChunks(ChunkManager manager) {
         if (manager.hasLoadedChunks(turtleId)) {
-            manager.removeAllChunks(turtleId);
+            unloadFootprint(manager);
         }
     }
 
@@ -299,6 +363,7 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         
         if (moved) {
             this.lastChunkPos = currentChunk;
+            ChunkLoaderRegistry.updatePosition(turtleId, this, turtle.getLevel(), currentChunk.toLong());
         }
         
         // CRITICAL: Always update persistent tracking data as source of truth
@@ -340,12 +405,11 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         if (moved || !manager.hasLoadedChunks(turtleId)) {
             double fuelCostPerTick = calculateFuelCost();
             if (turtle.getFuelLevel() > 0 && fuelCostPerTick > 0) {
-                Set<ChunkPos> chunksToLoad = computeChunks(currentChunk, radius);
-                manager.addChunksFromSet(turtleId, chunksToLoad);
+                loadFootprint(manager, currentChunk, radius);
             } else {
                 this.radius = 0.0;
                 this.fuelDebt = 0.0;
-                manager.removeAllChunks(turtleId);
+                unloadFootprint(manager);
                 LOGGER.debug("Turtle {} cannot afford chunk loading, disabling.", turtleId);
                 // Critical state change - force save immediately
                 markDirty();
@@ -373,7 +437,7 @@ public class ChunkLoaderPeripheral implements IPeripheral {
             } else {
                 this.radius = 0.0;
                 this.fuelDebt = 0.0;
-                manager.removeAllChunks(turtleId);
+                unloadFootprint(manager);
                 LOGGER.debug("Turtle {} ran out of fuel, disabling chunk loading.", turtleId);
                 // Critical state change - force save immediately
                 markDirty();
@@ -414,12 +478,33 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         }
     }
 
+    /**
+     * Get the ChunkManager for the turtle's world, reusing the last one while it is still valid
+     */
+    private ChunkManager getManager(ServerWorld serverWorld) {
+        ChunkManager manager = cachedManager;
+        if (manager == null || manager.isReleased() || manager.getWorld() != serverWorld) {
+            manager = ChunkManager.get(serverWorld);
+            cachedManager = manager;
+        }
+        return manager;
+    }
+
+    /**
+     * Runs every tick. In the steady state (turtle not moving, fuel unchanged) this
+     * allocates nothing: the manager is cached, position is compared as a packed long,
+     * and remote state is only rewritten when a value changes.
+     */
     public void updateChunkLoading() {
         if (!(turtle.getLevel() instanceof ServerWorld serverWorld)) return;
 
-        ChunkManager manager = ChunkManager.get(serverWorld);
-        
-        ChunkPos currentChunk = new ChunkPos(turtle.getPosition());
+        ChunkManager manager = getManager(serverWorld);
+
+        BlockPos position = turtle.getPosition();
+        long currentChunkKey = ChunkPos.toLong(ChunkSectionPos.getSectionCoord(position.getX()), ChunkSectionPos.getSectionCoord(position.getZ()));
+        ChunkPos currentChunk = lastChunkPos != null && lastChunkPos.toLong() == currentChunkKey
+                ? lastChunkPos
+                : new ChunkPos(currentChunkKey);
 
         boolean moved = updatePersistentState(manager, currentChunk);
         ensureComputerRegistration(manager, serverWorld);
@@ -456,8 +541,9 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         // BUT keep turtle state in cache for persistence
         if (turtle.getLevel() instanceof ServerWorld serverWorld) {
             ChunkManager manager = ChunkManager.get(serverWorld);
-            manager.removeAllChunks(turtleId);
-            // Don't remove from cache here - turtle might come back later
+            unloadFootprint(manager);
+            // Don't remove from cache here - turtle might come back later; it is parked off-heap until then
+            manager.parkTurtle(turtleId);
             LOGGER.debug("Cleaned up turtle {} but preserved state in cache", turtleId);
         }
     }
@@ -628,6 +714,11 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         this.randomTickEnabled = enabled;
         markDirty();
         forceSaveState();
+
+        // Move this turtle's chunks in or out of the world's random tick set
+        if (turtle.getLevel() instanceof ServerWorld serverWorld) {
+            serverWorld.getServer().execute(() -> ChunkManager.get(serverWorld).setTurtleRandomTick(turtleId, randomTickEnabled));
+        }
         LOGGER.debug("Random ticks {} for turtle {} (radius: {})",
                     enabled ? "enabled" : "disabled", turtleId, radius);
     }
@@ -642,6 +733,8 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         this.fuelDebt = upgradeData.getDouble(FUEL_DEBT_KEY);
         this.wakeOnWorldLoad = upgradeData.getBoolean(WAKE_ON_WORLD_LOAD_KEY);
         this.randomTickEnabled = upgradeData.getBoolean(RANDOM_TICK_ENABLED_KEY);
+        LoadLevel savedLevel = LoadLevel.fromName(upgradeData.getString(LOAD_LEVEL_KEY));
+        this.loadLevel = savedLevel != null ? savedLevel : LoadLevel.FULL;
 
         if (upgradeData.contains(LAST_CHUNK_POS_KEY)) {
             NbtCompound chunkPosNbt = upgradeData.getCompound(LAST_CHUNK_POS_KEY);
@@ -685,6 +778,7 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         upgradeData.putDouble(FUEL_DEBT_KEY, fuelDebt);
         upgradeData.putBoolean(WAKE_ON_WORLD_LOAD_KEY, wakeOnWorldLoad);
         upgradeData.putBoolean(RANDOM_TICK_ENABLED_KEY, randomTickEnabled);
+        upgradeData.putString(LOAD_LEVEL_KEY, loadLevel.getName());
 
         if (lastChunkPos != null) {
             NbtCompound chunkPosNbt = new NbtCompound();
@@ -711,7 +805,7 @@ public class ChunkLoaderPeripheral implements IPeripheral {
      */
     private void updateChunkManagerCache() {
         if (turtle.getLevel() instanceof ServerWorld serverWorld) {
-            ChunkManager manager = ChunkManager.get(serverWorld);
+            ChunkManager manager = getManager(serverWorld);
             SavedState currentState = getSavedState();
             LOGGER.info("DEBUG: updateChunkManagerCache for turtle {} - Saving state: radius={}, fuel={} at {}", 
                        turtleId, currentState.radius, currentState.fuelLevel, System.currentTimeMillis());
@@ -740,13 +834,12 @@ public class ChunkLoaderPeripheral implements IPeripheral {
         try {
             ChunkManager manager = ChunkManager.get(serverWorld);
             ChunkPos currentChunk = new ChunkPos(turtle.getPosition());
-            Set<ChunkPos> chunksToLoad = computeChunks(currentChunk, radius);
 
-            manager.addChunksFromSet(turtleId, chunksToLoad);
+            loadFootprint(manager, currentChunk, radius);
             this.lastChunkPos = currentChunk;
 
             LOGGER.info("Turtle {} resumed chunk loading with {} chunks at radius {}",
-                       turtleId, chunksToLoad.size(), radius);
+                       turtleId, manager.getLoadedChunkCount(turtleId), radius);
 
             // Force save updated state after resuming chunk loading
             markDirty();
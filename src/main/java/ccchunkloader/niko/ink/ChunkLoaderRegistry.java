@@ -1,11 +1,16 @@
 package ccchunkloader.niko.ink;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -19,13 +24,24 @@ public class ChunkLoaderRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChunkLoaderRegistry.class);
 
     private static final Map<UUID, ChunkLoaderPeripheral> ACTIVE_PERIPHERALS = new ConcurrentHashMap<>();
-
+    // Per world, active peripherals keyed by the packed chunk their turtle is in (guarded by SPATIAL_INDEX)
+    private static final Map<World, Long2ObjectOpenHashMap<List<ChunkLoaderPeripheral>>> SPATIAL_INDEX = new HashMap<>();
+    // Where each indexed turtle was last filed, so moves and removals find their index entry (guarded by SPATIAL_INDEX)
+    private static final Map<UUID, IndexedLocation> INDEXED_LOCATIONS = new HashMap<>();
 
     /**
      * Register an active peripheral
      */
     public static void register(UUID turtleId, ChunkLoaderPeripheral peripheral) {
         ACTIVE_PERIPHERALS.put(turtleId, peripheral);
+        BlockPos position = peripheral.getTurtlePosition();
+        if (peripheral.getTurtleLevel() != null && position != null) {
+            updatePosition(turtleId, peripheral, peripheral.getTurtleLevel(),
+                           ChunkPos.toLong(position.getX() >> 4, position.getZ() >> 4));
+        }
+        if (peripheral.getTurtleLevel() != null) {
+            ChunkManager.onPeripheralRegistered(peripheral.getTurtleLevel(), turtleId);
+        }
         LOGGER.debug("Registered active turtle chunk loader: {}", turtleId);
     }
 
@@ -34,6 +50,7 @@ public class ChunkLoaderRegistry {
      */
     public static void unregister(UUID turtleId) {
         ChunkLoaderPeripheral removed = ACTIVE_PERIPHERALS.remove(turtleId);
+        removeFromIndex(turtleId);
         if (removed != null) {
             LOGGER.debug("Unregistered turtle chunk loader: {}", turtleId);
         }
@@ -53,6 +70,74 @@ public class ChunkLoaderRegistry {
         return ACTIVE_PERIPHERALS.containsKey(turtleId);
     }
 
+    /**
+     * File an active peripheral under the chunk its turtle is in
+     * Cheap to call every tick: nothing changes unless the turtle moved to another chunk or world
+     */
+    public static void updatePosition(UUID turtleId, ChunkLoaderPeripheral peripheral, World world, long chunkKey) {
+        synchronized (SPATIAL_INDEX) {
+            IndexedLocation current = INDEXED_LOCATIONS.get(turtleId);
+            if (current != null && current.world == world && current.chunkKey == chunkKey && current.peripheral == peripheral) {
+                return;
+            }
+            if (current != null) {
+                unindex(current);
+            }
+            // A peripheral unregistered meanwhile must not be filed again
+            if (ACTIVE_PERIPHERALS.get(turtleId) != peripheral) {
+                INDEXED_LOCATIONS.remove(turtleId);
+                return;
+            }
+            IndexedLocation location = new IndexedLocation(peripheral, world, chunkKey);
+            SPATIAL_INDEX.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>())
+                         .computeIfAbsent(chunkKey, k -> new ArrayList<>(1))
+                         .add(peripheral);
+            INDEXED_LOCATIONS.put(turtleId, location);
+        }
+    }
+
+    /**
+     * Get the active peripherals whose turtle is in a chunk
+     * @return a snapshot, safe to iterate while peripherals are cleaned up
+     */
+    public static List<ChunkLoaderPeripheral> getPeripheralsInChunk(World world, long chunkKey) {
+        synchronized (SPATIAL_INDEX) {
+            Long2ObjectOpenHashMap<List<ChunkLoaderPeripheral>> worldIndex = SPATIAL_INDEX.get(world);
+            if (worldIndex == null) {
+                return List.of();
+            }
+            List<ChunkLoaderPeripheral> peripherals = worldIndex.get(chunkKey);
+            return peripherals == null ? List.of() : List.copyOf(peripherals);
+        }
+    }
+
+    private static void removeFromIndex(UUID turtleId) {
+        synchronized (SPATIAL_INDEX) {
+            IndexedLocation location = INDEXED_LOCATIONS.remove(turtleId);
+            if (location != null) {
+                unindex(location);
+            }
+        }
+    }
+
+    // Caller must hold SPATIAL_INDEX
+    private static void unindex(IndexedLocation location) {
+        Long2ObjectOpenHashMap<List<ChunkLoaderPeripheral>> worldIndex = SPATIAL_INDEX.get(location.world);
+        if (worldIndex == null) {
+            return;
+        }
+        List<ChunkLoaderPeripheral> peripherals = worldIndex.get(location.chunkKey);
+        if (peripherals != null) {
+            peripherals.remove(location.peripheral);
+            if (peripherals.isEmpty()) {
+                worldIndex.remove(location.chunkKey);
+                if (worldIndex.isEmpty()) {
+                    SPATIAL_INDEX.remove(location.world);
+                }
+            }
+        }
+    }
+
     /**
      * Get all active peripherals
      */
@@ -96,6 +181,7 @@ public class ChunkLoaderRegistry {
         LOGGER.info("PERMANENTLY removing turtle {} from registry", turtleId);
         
         ChunkLoaderPeripheral removed = ACTIVE_PERIPHERALS.remove(turtleId);
+        removeFromIndex(turtleId);
         
         if (removed != null) {
             LOGGER.info("Removed active peripheral for turtle {}", turtleId);
@@ -109,6 +195,10 @@ public class ChunkLoaderRegistry {
         int activeCount = ACTIVE_PERIPHERALS.size();
 
         ACTIVE_PERIPHERALS.clear();
+        synchronized (SPATIAL_INDEX) {
+            SPATIAL_INDEX.clear();
+            INDEXED_LOCATIONS.clear();
+        }
 
         if (activeCount > 0) {
             LOGGER.info("Cleared {} active turtle records", activeCount);
@@ -124,9 +214,25 @@ public class ChunkLoaderRegistry {
             if (ACTIVE_PERIPHERALS.remove(turtleId) != null) {
                 removed++;
             }
+            removeFromIndex(turtleId);
         }
         if (removed > 0) {
             LOGGER.debug("Clean slate: removed {} peripherals from unloaded chunks", removed);
         }
     }
+
+    /**
+     * Index entry for one turtle: which peripheral was filed, in which world and chunk
+     */
+    private static class IndexedLocation {
+        final ChunkLoaderPeripheral peripheral;
+        final World world;
+        final long chunkKey;
+
+        IndexedLocation(ChunkLoaderPeripheral peripheral, World world, long chunkKey) {
+            this.peripheral = peripheral;
+            this.world = world;
+            this.chunkKey = chunkKey;
+        }
+    }
 }
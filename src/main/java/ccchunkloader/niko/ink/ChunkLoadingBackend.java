@@ -0,0 +1,125 @@
+package ccchunkloader.niko.ink;
+
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.Comparator;
+
+/**
+ * Mechanism ChunkManager uses to keep chunks loaded.
+ * One instance per world, chosen from Config.LOADING_BACKEND when the world's ChunkManager is created.
+ * Must only be called from the server thread.
+ */
+public interface ChunkLoadingBackend {
+    String TICKET = "ticket";
+    String FORCED = "forced";
+
+    /**
+     * Move a chunk from one load level to another
+     * @param previous Level the chunk is currently loaded at, or null if it is not loaded
+     * @param level Level to load it at, or null to stop keeping it loaded
+     */
+    void setLevel(int chunkX, int chunkZ, LoadLevel previous, LoadLevel level);
+
+    /**
+     * Backend name as used in Config.LOADING_BACKEND
+     */
+    String getName();
+
+    /**
+     * Whether chunks actually load at the level asked for; if not, every level loads as FULL
+     * and the cheaper levels' fuel discount must not apply
+     */
+    boolean supportsLoadLevels();
+
+    /**
+     * Check if a name is a known backend
+     */
+    static boolean isValidName(String name) {
+        return TICKET.equals(name) || FORCED.equals(name);
+    }
+
+    /**
+     * Create the configured backend for a world
+     */
+    static ChunkLoadingBackend create(ServerWorld world) {
+        if (FORCED.equals(Config.LOADING_BACKEND)) {
+            return new Forced(world);
+        }
+        return new Ticket(world);
+    }
+
+    /**
+     * Vanilla force-loading. Every change is written to the world's ForcedChunkState
+     * and shares it with /forceload, so chunks stay loaded across restarts on their own.
+     * Forced chunks always fully tick, so every load level is treated as FULL.
+     */
+    final class Forced implements ChunkLoadingBackend {
+        private final ServerWorld world;
+
+        Forced(ServerWorld world) {
+            this.world = world;
+        }
+
+        @Override
+        public void setLevel(int chunkX, int chunkZ, LoadLevel previous, LoadLevel level) {
+            if ((previous != null) != (level != null)) {
+                world.setChunkForced(chunkX, chunkZ, level != null);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return FORCED;
+        }
+
+        @Override
+        public boolean supportsLoadLevels() {
+            return false;
+        }
+    }
+
+    /**
+     * Non-persistent tickets added straight on the ServerChunkManager.
+     * Nothing is saved by vanilla; turtles restore their chunks from our own saved state on startup.
+     */
+    final class Ticket implements ChunkLoadingBackend {
+        // Never expires, one ticket per chunk (the argument is the chunk itself)
+        public static final ChunkTicketType<ChunkPos> TYPE =
+            ChunkTicketType.create("ccchunkloader", Comparator.comparingLong(ChunkPos::toLong));
+
+        private final ServerWorld world;
+
+        Ticket(ServerWorld world) {
+            this.world = world;
+        }
+
+        @Override
+        public void setLevel(int chunkX, int chunkZ, LoadLevel previous, LoadLevel level) {
+            ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+            // Add the new ticket before dropping the old one so the chunk never falls to unloaded in between
+            if (level != null) {
+                world.getChunkManager().addTicket(TYPE, pos, radiusFor(level), pos);
+            }
+            if (previous != null) {
+                world.getChunkManager().removeTicket(TYPE, pos, radiusFor(previous), pos);
+            }
+        }
+
+        // addTicket takes the ticket level as a distance below 33
+        private static int radiusFor(LoadLevel level) {
+            return 33 - level.getTicketLevel();
+        }
+
+        @Override
+        public String getName() {
+            return TICKET;
+        }
+
+        @Override
+        public boolean supportsLoadLevels() {
+            return true;
+        }
+    }
+}
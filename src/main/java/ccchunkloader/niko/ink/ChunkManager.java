@@ -1,19 +1,30 @@
 package ccchunkloader.niko.ink;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.nbt.NbtList;
 import net.minecraft.nbt.NbtString;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.ChunkPos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.world.World;
 
@@ -24,24 +35,97 @@ import net.minecraft.world.World;
 public class ChunkManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChunkManager.class);
     private static final Map<ServerWorld, ChunkManager> MANAGERS = new ConcurrentHashMap<>();
-
-    // Map from ChunkPos to set of turtle UUIDs that are keeping it loaded
-    private final Map<ChunkPos, Set<UUID>> chunkLoaders = new ConcurrentHashMap<>();
-    // Map from turtle UUID to set of chunks they're currently loading
-    private final Map<UUID, Set<ChunkPos>> turtleChunks = new ConcurrentHashMap<>();
+    private static final int UNFORCE_WHEEL_SLOTS = 256;
+    private static final int NOT_LOADED = -1;
+    private static final int BOOTSTRAP_TIMEOUT_TICKS = 20;
+
+    // Number of turtles keeping each chunk loaded, keyed by ChunkPos.toLong() (guarded by this)
+    private final Long2IntOpenHashMap chunkLoaders = new Long2IntOpenHashMap();
+    // The same counts split by load level, indexed by LoadLevel ordinal (guarded by this)
+    private final Long2IntOpenHashMap[] levelLoaders = new Long2IntOpenHashMap[LoadLevel.count()];
+    // Map from turtle UUID to the packed positions of the chunks it's currently loading (sets guarded by this)
+    private final Map<UUID, LongOpenHashSet> turtleChunks = new ConcurrentHashMap<>();
+    // Turtles whose chunks are random ticked
+    private final Set<UUID> randomTickTurtles = ConcurrentHashMap.newKeySet();
+    // Number of random-tick turtles covering each chunk (guarded by this)
+    private final Long2IntOpenHashMap randomTickLoaders = new Long2IntOpenHashMap();
+    // Random tick chunks as a dense array for the orchestrator, with each chunk's slot for O(1) removal (guarded by this)
+    private long[] randomTickChunks = new long[64];
+    private int randomTickChunkCount = 0;
+    private final Long2IntOpenHashMap randomTickIndex = new Long2IntOpenHashMap();
+    private long randomTickVersion = 0;
+    // Load level each turtle's chunks are held at, FULL when absent (guarded by this)
+    private final Map<UUID, LoadLevel> turtleLoadLevels = new ConcurrentHashMap<>();
+    // Chunk each turtle stands in; held at BLOCK while the turtle's level is weaker, so the turtle keeps ticking (guarded by this)
+    private final Object2LongOpenHashMap<UUID> turtleAnchors = new Object2LongOpenHashMap<>();
+    // LoadLevel ordinal each chunk is currently loaded at in the world (guarded by this)
+    private final Long2IntOpenHashMap committedLevels = new Long2IntOpenHashMap();
+    // Chunks whose load level may have changed this tick, checked against committedLevels at commit (guarded by this)
+    private final LongOpenHashSet pendingForceChanges = new LongOpenHashSet();
+    // Force/unforce transitions recorded this tick, and totals applied vs. netted out at commit (guarded by this)
+    private int pendingForceTransitions = 0;
+    private long forceTransitionsCommitted = 0;
+    private long forceTransitionsCoalesced = 0;
+    // Unreferenced chunks kept forced for the grace period before being unforced (guarded by this)
+    private final ChunkExpiryWheel unforceWheel = new ChunkExpiryWheel(UNFORCE_WHEEL_SLOTS);
+    private long currentTick = 0;
+    // Chunks re-claimed during their grace period, i.e. unload/reload cycles avoided (guarded by this)
+    private long reloadsPrevented = 0;
+    private long graceExpirations = 0;
     // Unified remote management state for offline turtles (position, fuel, wake preference, computer ID)
     private final Map<UUID, RemoteManagementState> remoteManagementStates = new ConcurrentHashMap<>();
+    // On-demand bootstraps waiting for their turtle's peripheral to register
+    private final Map<UUID, PendingBootstrap> pendingBootstraps = new ConcurrentHashMap<>();
+    // Chunks claimed at FULL to wake a turtle, released when it registers or the hold lapses (written under this)
+    private final Map<UUID, WakeHold> wakeHolds = new ConcurrentHashMap<>();
     // Bootstrap states from NBT (temporary during world load)
     private final Map<UUID, ChunkLoaderPeripheral.SavedState> restoredTurtleStates = new ConcurrentHashMap<>();
     // Unified computer ID to UUID tracking (replaces separate bidirectional maps)
     private final ComputerUUIDTracker computerTracker = new ComputerUUIDTracker();
+    // Bumped whenever data written by serializeToNbt changes, so unchanged worlds skip saving
+    private final AtomicLong stateVersion = new AtomicLong();
+    // Turtles changed since their record was last encoded, and each turtle's last encoded record (guarded by this)
+    private final Set<UUID> dirtyTurtles = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, TurtleRecordTable.Record> encodedTurtles = new HashMap<>();
+    // Saved records not decoded yet, null once all are (written under this, read without it as a fast path)
+    private volatile DormantTurtleIndex dormantRecords;
+    private int decodedOnDemand = 0;
+    // Records re-encoded vs. reused by the last snapshot
+    private int lastRecordsEncoded = 0;
+    private int lastRecordsReused = 0;
 
     private final ServerWorld world;
+    // Fixed at creation; changing Config.LOADING_BACKEND takes effect the next time the world loads
+    private final ChunkLoadingBackend backend;
+    // Crash-safe record of changes made since the last full save
+    private final ChunkJournal journal;
+    // Remote management state of unloaded turtles, kept off the heap until looked up again
+    private final DormantTurtleStore parkedTurtles;
     private boolean bootstrapped = false;
+    // Wake-on-load turtles waiting for their chunk to be loaded, drained a few per tick (guarded by this)
+    private final WakeScheduler wakeScheduler = new WakeScheduler();
+    private long wakeHoldsExpired = 0;
+    // Set once this manager has been dropped for its world, so cached references know to look it up again
+    private volatile boolean released = false;
 
     private ChunkManager(ServerWorld world) {
         this.world = world;
-        LOGGER.debug("Created new ChunkManager for world: {}", world.getRegistryKey().getValue());
+        this.backend = ChunkLoadingBackend.create(world);
+        this.journal = ChunkJournal.open(world);
+        this.parkedTurtles = DormantTurtleStore.open(world);
+        for (int i = 0; i < levelLoaders.length; i++) {
+            levelLoaders[i] = new Long2IntOpenHashMap();
+        }
+        committedLevels.defaultReturnValue(NOT_LOADED);
+        LOGGER.debug("Created new ChunkManager for world: {} (backend: {})", world.getRegistryKey().getValue(), backend.getName());
+    }
+
+    /**
+     * Get the manager for a world without creating or bootstrapping it
+     * @return the manager, or null if the world has none yet
+     */
+    public static ChunkManager getExisting(ServerWorld world) {
+        return MANAGERS.get(world);
     }
 
     public static ChunkManager get(ServerWorld world) {
@@ -53,6 +137,18 @@ public class ChunkManager {
         return manager;
     }
 
+    public ServerWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Check if this manager has been dropped (world unload / server stop).
+     * Callers caching a manager reference must fetch a new one through get() once this is true.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
     /**
      * Force bootstrap turtles even if already bootstrapped
      * Called when new bootstrap data becomes available
@@ -81,22 +177,8 @@ public class ChunkManager {
             return;
         }
 
-        for (Map.Entry<UUID, BootstrapData> entry : turtlesToBootstrap.entrySet()) {
-            UUID turtleId = entry.getKey();
-            BootstrapData data = entry.getValue();
-
-            LOGGER.info("Force-processing bootstrap data for turtle {}: chunk={}, fuel={}, wake={}",
-                       turtleId, data.chunkPos, data.lastKnownFuelLevel, data.wakeOnWorldLoad);
-
-            if (data.lastKnownFuelLevel > 0 && data.wakeOnWorldLoad) {
-                // Force-load the chunk where the turtle is located to wake it up
-                world.setChunkForced(data.chunkPos.x, data.chunkPos.z, true);
-                LOGGER.info("FORCE-LOADED chunk {} to bootstrap turtle {} (fuel: {}) [FORCE-BOOTSTRAP]",
-                           data.chunkPos, turtleId, data.lastKnownFuelLevel);
-            }
-        }
-
-        LOGGER.info("Force-bootstrap process completed for world {}", world.getRegistryKey().getValue());
+        int queued = scheduleWakes(turtlesToBootstrap);
+        LOGGER.info("Force-bootstrap queued {} turtle wakes for world {}", queued, world.getRegistryKey().getValue());
     }
 
     /**
@@ -125,142 +207,641 @@ public class ChunkManager {
         LOGGER.info("Bootstrapping {} turtles with wake-on-world-load enabled for world {}",
                    turtlesToBootstrap.size(), world.getRegistryKey().getValue());
 
+        int queued = scheduleWakes(turtlesToBootstrap);
+        LOGGER.info("Bootstrap queued {} turtle wakes for world {}", queued, world.getRegistryKey().getValue());
+    }
+
+    /**
+     * Queue turtles to be woken by loading their chunk; the queue is drained at the end of each tick.
+     * Turtles with a radius override waiting to be applied go first, then those with the most fuel.
+     * @return number of turtles newly queued
+     */
+    private synchronized int scheduleWakes(Map<UUID, BootstrapData> turtlesToBootstrap) {
+        int queued = 0;
         for (Map.Entry<UUID, BootstrapData> entry : turtlesToBootstrap.entrySet()) {
             UUID turtleId = entry.getKey();
             BootstrapData data = entry.getValue();
 
-            LOGGER.info("Processing bootstrap data for turtle {}: chunk={}, fuel={}, wake={}",
-                       turtleId, data.chunkPos, data.lastKnownFuelLevel, data.wakeOnWorldLoad);
-
             if (data.lastKnownFuelLevel > 0 && data.wakeOnWorldLoad) {
-                // Force-load the chunk where the turtle is located to wake it up
-                world.setChunkForced(data.chunkPos.x, data.chunkPos.z, true);
-                LOGGER.info("FORCE-LOADED chunk {} to bootstrap turtle {} (fuel: {})",
-                           data.chunkPos, turtleId, data.lastKnownFuelLevel);
+                int priority = hasRadiusOverride(turtleId) ? 1 : 0;
+                if (wakeScheduler.schedule(new WakeScheduler.Wake(turtleId, data.chunkPos, data.lastKnownFuelLevel, priority), currentTick)) {
+                    queued++;
+                }
             } else {
-                LOGGER.info("Skipping bootstrap for turtle {}: fuel={}, wake={}",
-                           turtleId, data.lastKnownFuelLevel, data.wakeOnWorldLoad);
+                LOGGER.debug("Skipping bootstrap for turtle {}: fuel={}, wake={}",
+                            turtleId, data.lastKnownFuelLevel, data.wakeOnWorldLoad);
             }
         }
+        return queued;
+    }
+
+    /**
+     * Wake queued turtles, at most Config.WAKE_MAX_PER_TICK per tick (at least one so the queue always drains).
+     * Each wake only holds the turtle's chunk for the commit that follows; the ticket backend then loads
+     * it asynchronously, so Config.WAKE_BUDGET_NANOS just bounds the bookkeeping here and the per-tick
+     * cap is what actually staggers the chunk loads.
+     */
+    private synchronized void drainWakeQueue() {
+        if (wakeScheduler.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        int woken = 0;
+        int skipped = 0;
+        while (woken < Math.max(1, Config.WAKE_MAX_PER_TICK)) {
+            if (woken > 0 && System.nanoTime() - start >= Config.WAKE_BUDGET_NANOS) {
+                break;
+            }
+            WakeScheduler.Wake wake = wakeScheduler.poll(currentTick);
+            if (wake == null) {
+                break;
+            }
+            if (ChunkLoaderRegistry.getPeripheral(wake.turtleId) != null) {
+                skipped++; // Woke some other way while it waited
+                continue;
+            }
+            holdForWake(wake.turtleId, wake.chunkPos.toLong());
+            LOGGER.debug("Holding chunk {} to wake turtle {} (fuel: {}, priority: {})",
+                        wake.chunkPos, wake.turtleId, wake.fuelLevel, wake.priority);
+            woken++;
+        }
+        wakeScheduler.recordTick(woken, skipped);
+        if (wakeScheduler.isEmpty()) {
+            LOGGER.info("Finished waking turtles for world {}", world.getRegistryKey().getValue());
+        }
+    }
+
+    /**
+     * Claim a turtle's chunk at FULL so it loads and the turtle wakes. Caller must hold the lock.
+     * The claim is dropped when the turtle's peripheral registers, BOOTSTRAP_TIMEOUT_TICKS after
+     * the chunk has loaded without it registering, or after Config.WAKE_HOLD_MAX_TICKS at most.
+     */
+    private void holdForWake(UUID turtleId, long packed) {
+        if (wakeHolds.containsKey(turtleId)) {
+            return;
+        }
+        claimChunk(packed, LoadLevel.FULL, false);
+        wakeHolds.put(turtleId, new WakeHold(packed, currentTick + Math.max(1, Config.WAKE_HOLD_MAX_TICKS)));
+    }
+
+    /**
+     * Drop a turtle's wake claim, if it has one
+     */
+    private synchronized void releaseWakeHold(UUID turtleId) {
+        WakeHold hold = wakeHolds.remove(turtleId);
+        if (hold != null) {
+            releaseChunk(hold.chunk, LoadLevel.FULL, false);
+        }
+    }
+
+    /**
+     * Drop wake claims whose turtle did not register in time. Runs at the end of the world tick.
+     * Chunks load asynchronously, so a hold only starts its short countdown once its chunk is in;
+     * until then only the Config.WAKE_HOLD_MAX_TICKS bound applies.
+     */
+    private synchronized void expireWakeHolds() {
+        if (wakeHolds.isEmpty()) {
+            return;
+        }
+        Iterator<Map.Entry<UUID, WakeHold>> iterator = wakeHolds.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, WakeHold> entry = iterator.next();
+            WakeHold hold = entry.getValue();
+            if (hold.loadedTick < 0 && world.isChunkLoaded(ChunkPos.getPackedX(hold.chunk), ChunkPos.getPackedZ(hold.chunk))) {
+                hold.loadedTick = currentTick;
+            }
+            boolean settled = hold.loadedTick >= 0 && currentTick - hold.loadedTick >= BOOTSTRAP_TIMEOUT_TICKS;
+            if (settled || hold.deadlineTick <= currentTick) {
+                iterator.remove();
+                releaseChunk(hold.chunk, LoadLevel.FULL, false);
+                wakeHoldsExpired++;
+                LOGGER.debug("Released wake hold for turtle {} - peripheral not available {}",
+                            entry.getKey(), settled ? BOOTSTRAP_TIMEOUT_TICKS + " ticks after its chunk loaded"
+                                                    : "before its chunk loaded");
+            }
+        }
+    }
 
-        LOGGER.info("Bootstrap process completed for world {}", world.getRegistryKey().getValue());
+    /**
+     * Get wake-on-load progress for debugging
+     */
+    public synchronized Map<String, Object> getWakeStats() {
+        Map<String, Object> stats = wakeScheduler.getStats(currentTick);
+        stats.put("holding", wakeHolds.size());
+        stats.put("holdsExpired", wakeHoldsExpired);
+        return stats;
     }
 
     /**
      * Add chunks from a pre-computed set to the force-loaded set
-     * Uses atomic swapping: loads new chunks BEFORE removing old chunks
-     * IMPORTANT: World operations are done OUTSIDE synchronized blocks to prevent deadlocks
+     * Force state changes are buffered and committed once at the end of the world tick,
+     * so a chunk that is released and re-claimed within a tick never touches the world
      */
-    public void addChunksFromSet(UUID turtleId, Set<ChunkPos> newChunks) {
+    public synchronized void addChunksFromSet(UUID turtleId, Set<ChunkPos> newChunks) {
         LOGGER.debug("Adding {} chunks for turtle {}", newChunks.size(), turtleId);
 
-        // PHASE 1: Calculate changes under lock (fast, non-blocking)
-        Set<ChunkPos> chunksToLoad;
-        Set<ChunkPos> chunksToUnload;
-        Set<ChunkPos> oldChunks;
+        LongOpenHashSet updatedChunks = new LongOpenHashSet(newChunks.size());
+        for (ChunkPos chunkPos : newChunks) {
+            updatedChunks.add(chunkPos.toLong());
+        }
+        replaceTurtleChunks(turtleId, updatedChunks);
+    }
 
-        synchronized (this) {
-            oldChunks = turtleChunks.get(turtleId);
-
-            // Calculate which chunks need to be force-loaded (new chunks that have no other loaders)
-            chunksToLoad = ConcurrentHashMap.newKeySet();
-            for (ChunkPos chunkPos : newChunks) {
-                // Add this turtle as a loader for this chunk
-                Set<UUID> loaders = chunkLoaders.computeIfAbsent(chunkPos, k -> ConcurrentHashMap.newKeySet());
-                loaders.add(turtleId);
-
-                // If this is the first turtle to load this chunk, mark it for force loading
-                if (loaders.size() == 1) {
-                    chunksToLoad.add(chunkPos);
-                }
+    /**
+     * Replace a turtle's chunks with a footprint template placed around a center chunk
+     * @param offsets Packed offsets relative to the center, as held by ChunkFootprint
+     */
+    public synchronized void addChunksFromFootprint(UUID turtleId, int centerX, int centerZ, long[] offsets) {
+        LOGGER.debug("Adding {} footprint chunks around [{}, {}] for turtle {}", offsets.length, centerX, centerZ, turtleId);
+
+        LongOpenHashSet updatedChunks = new LongOpenHashSet(offsets.length);
+        for (long offset : offsets) {
+            updatedChunks.add(ChunkPos.toLong(centerX + ChunkPos.getPackedX(offset), centerZ + ChunkPos.getPackedZ(offset)));
+        }
+        replaceTurtleChunks(turtleId, updatedChunks);
+    }
+
+    /**
+     * Swap in a turtle's new chunk set, claiming chunks it gained and releasing those it lost. Caller must hold the lock.
+     */
+    private void replaceTurtleChunks(UUID turtleId, LongOpenHashSet updatedChunks) {
+        ensureResident(turtleId);
+        LongOpenHashSet oldChunks = turtleChunks.get(turtleId);
+        LoadLevel level = getTurtleLoadLevel(turtleId);
+        boolean randomTick = randomTickTurtles.contains(turtleId);
+        int loadCount = 0;
+        int unloadCount = 0;
+
+        LongIterator newIterator = updatedChunks.iterator();
+        while (newIterator.hasNext()) {
+            long packed = newIterator.nextLong();
+
+            // A turtle counts once per chunk, so only chunks it wasn't already loading take a reference
+            if ((oldChunks == null || !oldChunks.contains(packed)) && claimChunk(packed, level, randomTick)) {
+                loadCount++;
             }
+        }
 
-            // Calculate which chunks need to be removed
-            chunksToUnload = ConcurrentHashMap.newKeySet();
-            if (oldChunks != null) {
-                for (ChunkPos oldChunk : oldChunks) {
-                    if (!newChunks.contains(oldChunk)) {
-                        chunksToUnload.add(oldChunk);
-                    }
+        // Release chunks the turtle no longer covers
+        if (oldChunks != null) {
+            LongIterator iterator = oldChunks.iterator();
+            while (iterator.hasNext()) {
+                long packed = iterator.nextLong();
+                if (!updatedChunks.contains(packed) && releaseChunk(packed, level, randomTick)) {
+                    unloadCount++;
                 }
             }
-
-            // Update turtle's chunk set immediately
-            turtleChunks.put(turtleId, Set.copyOf(newChunks));
-            touch(turtleId);
         }
 
-        // PHASE 2: Apply world changes WITHOUT holding locks (can block safely)
-        // Force load new chunks
-        for (ChunkPos chunkPos : chunksToLoad) {
-            world.setChunkForced(chunkPos.x, chunkPos.z, true);
-            LOGGER.debug("Force loaded chunk {} for turtle {}", chunkPos, turtleId);
-        }
+        // Update turtle's chunk set immediately
+        turtleChunks.put(turtleId, updatedChunks);
+        touch(turtleId);
+
+        LOGGER.debug("Completed chunk update for turtle {}: +{} -{}",
+                    turtleId, loadCount, unloadCount);
+    }
 
-        // Remove old chunks (this can also call removeChunkLoader which might force-unload)
-        for (ChunkPos oldChunk : chunksToUnload) {
-            removeChunkLoader(turtleId, oldChunk);
+
+    /**
+     * Shift a turtle's footprint by one chunk using precomputed edge offsets
+     * Only the leading edge is claimed and the trailing edge released; the rest of the
+     * footprint keeps its references untouched
+     * @param centerX Chunk X the offsets are relative to (the turtle's previous chunk)
+     * @param centerZ Chunk Z the offsets are relative to
+     */
+    public synchronized void applyFootprintDelta(UUID turtleId, int centerX, int centerZ,
+                                                 long[] leadingOffsets, long[] trailingOffsets) {
+        ensureResident(turtleId);
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
+        if (chunks == null) {
+            chunks = new LongOpenHashSet();
+            turtleChunks.put(turtleId, chunks);
+        }
+        LoadLevel level = getTurtleLoadLevel(turtleId);
+        boolean randomTick = randomTickTurtles.contains(turtleId);
+        int loadCount = 0;
+        int unloadCount = 0;
+
+        for (long offset : leadingOffsets) {
+            long packed = ChunkPos.toLong(centerX + ChunkPos.getPackedX(offset), centerZ + ChunkPos.getPackedZ(offset));
+            if (chunks.add(packed) && claimChunk(packed, level, randomTick)) {
+                loadCount++;
+            }
+        }
+        for (long offset : trailingOffsets) {
+            long packed = ChunkPos.toLong(centerX + ChunkPos.getPackedX(offset), centerZ + ChunkPos.getPackedZ(offset));
+            if (chunks.remove(packed) && releaseChunk(packed, level, randomTick)) {
+                unloadCount++;
+            }
         }
 
-        LOGGER.debug("Completed chunk update for turtle {}: +{} -{}",
-                    turtleId, chunksToLoad.size(), chunksToUnload.size());
+        LOGGER.debug("Applied footprint delta for turtle {}: +{} -{}", turtleId, loadCount, unloadCount);
     }
 
 
     /**
      * Remove all chunks loaded by a specific turtle but preserve turtle tracking
-     * IMPORTANT: World operations are done OUTSIDE synchronized blocks to prevent deadlocks
      * NOTE: This method preserves turtle tracking data to prevent permanent data loss
      */
-    public void removeAllChunks(UUID turtleId) {
-        // PHASE 1: Get chunks to remove under lock but PRESERVE turtle tracking (fast, non-blocking)
-        Set<ChunkPos> chunks;
-        synchronized (this) {
-            chunks = turtleChunks.get(turtleId);
-            if (chunks != null) {
-                // Clear the chunk set but keep the turtle tracked with empty set
-                turtleChunks.put(turtleId, ConcurrentHashMap.newKeySet());
-                chunks = Set.copyOf(chunks); // Make a copy for iteration
+    public synchronized void removeAllChunks(UUID turtleId) {
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
+        int removedCount = 0;
+        if (chunks != null && !chunks.isEmpty()) {
+            removedCount = chunks.size();
+            LoadLevel level = getTurtleLoadLevel(turtleId);
+            boolean randomTick = randomTickTurtles.contains(turtleId);
+            LongIterator iterator = chunks.iterator();
+            while (iterator.hasNext()) {
+                releaseChunk(iterator.nextLong(), level, randomTick);
+            }
+            // Clear the chunk set but keep the turtle tracked with empty set
+            turtleChunks.put(turtleId, new LongOpenHashSet());
+        }
+        clearTurtleAnchor(turtleId);
+        LOGGER.debug("Removed {} chunks for turtle {} (turtle tracking preserved)", removedCount, turtleId);
+    }
+
+    /**
+     * Check this world's backend loads chunks at the level asked for, so cheaper levels may cost less fuel
+     */
+    public boolean supportsLoadLevels() {
+        return backend.supportsLoadLevels();
+    }
+
+    /**
+     * Get the load level a turtle's chunks are held at
+     */
+    public LoadLevel getTurtleLoadLevel(UUID turtleId) {
+        return turtleLoadLevels.getOrDefault(turtleId, LoadLevel.FULL);
+    }
+
+    /**
+     * Change the load level of a turtle, moving the chunks it already holds to the new level
+     * The world is updated at the end-of-tick commit like any other change
+     */
+    public synchronized void setTurtleLoadLevel(UUID turtleId, LoadLevel level) {
+        LoadLevel previous = getTurtleLoadLevel(turtleId);
+        if (previous == level) {
+            return;
+        }
+        turtleLoadLevels.put(turtleId, level);
+
+        // The anchor reference follows whether the new level still lets the turtle tick
+        if (turtleAnchors.containsKey(turtleId) && needsAnchor(previous) != needsAnchor(level)) {
+            long anchor = turtleAnchors.getLong(turtleId);
+            if (needsAnchor(level)) {
+                claimChunk(anchor, LoadLevel.BLOCK, false);
+            } else {
+                releaseChunk(anchor, LoadLevel.BLOCK, false);
             }
         }
 
-        // PHASE 2: Remove chunks WITHOUT holding locks (can block safely)
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
         if (chunks != null) {
-            for (ChunkPos chunk : chunks) {
-                removeChunkLoader(turtleId, chunk);
+            LongIterator iterator = chunks.iterator();
+            while (iterator.hasNext()) {
+                long packed = iterator.nextLong();
+                removeLevelReference(packed, previous);
+                addLevelReference(packed, level);
             }
         }
-        LOGGER.debug("Removed {} chunks for turtle {} (turtle tracking preserved)", chunks != null ? chunks.size() : 0, turtleId);
+        LOGGER.debug("Turtle {} load level {} -> {}", turtleId, previous.getName(), level.getName());
     }
 
     /**
-     * Remove a turtle as a loader for a specific chunk
-     * IMPORTANT: World operations are done OUTSIDE synchronized blocks to prevent deadlocks
+     * Record the chunk a turtle stands in. While the turtle's level is weaker than BLOCK that chunk
+     * is held at BLOCK on top of the footprint, since at BORDER no block entity ticks: the turtle
+     * would stop updating and paying fuel while its footprint stayed loaded.
      */
-    private void removeChunkLoader(UUID turtleId, ChunkPos chunk) {
-        // PHASE 1: Update data structures under lock (fast, non-blocking)
-        boolean shouldUnforce;
-        synchronized (this) {
-            Set<UUID> loaders = chunkLoaders.get(chunk);
-            if (loaders == null) {
-                return; // Chunk not tracked
+    public synchronized void setTurtleAnchor(UUID turtleId, int chunkX, int chunkZ) {
+        long packed = ChunkPos.toLong(chunkX, chunkZ);
+        if (turtleAnchors.containsKey(turtleId) && turtleAnchors.getLong(turtleId) == packed) {
+            return;
+        }
+        clearTurtleAnchor(turtleId);
+        turtleAnchors.put(turtleId, packed);
+        if (needsAnchor(getTurtleLoadLevel(turtleId))) {
+            claimChunk(packed, LoadLevel.BLOCK, false);
+        }
+    }
+
+    /**
+     * Drop a turtle's anchor and its reference, if held. Caller must hold the lock.
+     * Released like any other claim, so a turtle stepping back and forth across a chunk
+     * border doesn't unload and reload the chunk it just left.
+     */
+    private void clearTurtleAnchor(UUID turtleId) {
+        if (!turtleAnchors.containsKey(turtleId)) {
+            return;
+        }
+        long packed = turtleAnchors.removeLong(turtleId);
+        if (needsAnchor(getTurtleLoadLevel(turtleId))) {
+            releaseChunk(packed, LoadLevel.BLOCK, false);
+        }
+    }
+
+    private static boolean needsAnchor(LoadLevel level) {
+        return level.compareTo(LoadLevel.BLOCK) > 0;
+    }
+
+    /**
+     * Enable or disable random ticking for the chunks a turtle loads
+     * The turtle's current chunks join or leave the random tick set right away
+     */
+    public synchronized void setTurtleRandomTick(UUID turtleId, boolean enabled) {
+        boolean changed = enabled ? randomTickTurtles.add(turtleId) : randomTickTurtles.remove(turtleId);
+        if (!changed) {
+            return;
+        }
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
+        if (chunks != null) {
+            LongIterator iterator = chunks.iterator();
+            while (iterator.hasNext()) {
+                long packed = iterator.nextLong();
+                if (enabled) {
+                    addRandomTickReference(packed);
+                } else {
+                    removeRandomTickReference(packed);
+                }
             }
+        }
+        LOGGER.debug("Turtle {} random ticks {}", turtleId, enabled ? "enabled" : "disabled");
+    }
 
-            loaders.remove(turtleId);
+    /**
+     * Number of chunks random ticked for turtles in this world
+     */
+    public synchronized int getRandomTickChunkCount() {
+        return randomTickChunkCount;
+    }
 
-            // If no more turtles are loading this chunk, mark for unforcing
-            if (loaders.isEmpty()) {
-                chunkLoaders.remove(chunk);
-                shouldUnforce = true;
-            } else {
-                shouldUnforce = false;
+    /**
+     * Bumped whenever a chunk joins or leaves the random tick set
+     */
+    public synchronized long getRandomTickVersion() {
+        return randomTickVersion;
+    }
+
+    /**
+     * Copy of the random tick chunk set as packed positions
+     */
+    public synchronized long[] getRandomTickChunks() {
+        return Arrays.copyOf(randomTickChunks, randomTickChunkCount);
+    }
+
+    /**
+     * Copy a window of the random tick chunk set into a caller-owned buffer, wrapping around the end
+     * @param start Index of the first chunk to copy
+     * @param max Maximum number of chunks to copy
+     * @return number of chunks copied
+     */
+    public synchronized int copyRandomTickChunks(int start, int max, long[] out) {
+        int count = Math.min(Math.min(max, out.length), randomTickChunkCount);
+        if (count == 0) {
+            return 0;
+        }
+        int index = start % randomTickChunkCount;
+        for (int i = 0; i < count; i++) {
+            out[i] = randomTickChunks[index];
+            if (++index == randomTickChunkCount) {
+                index = 0;
+            }
+        }
+        return count;
+    }
+
+    // Caller must hold the lock
+    private void addRandomTickReference(long packed) {
+        if (randomTickLoaders.addTo(packed, 1) != 0) {
+            return;
+        }
+        if (randomTickChunkCount == randomTickChunks.length) {
+            randomTickChunks = Arrays.copyOf(randomTickChunks, randomTickChunks.length * 2);
+        }
+        randomTickIndex.put(packed, randomTickChunkCount);
+        randomTickChunks[randomTickChunkCount++] = packed;
+        randomTickVersion++;
+    }
+
+    // Caller must hold the lock
+    private void removeRandomTickReference(long packed) {
+        int loaders = randomTickLoaders.get(packed);
+        if (loaders <= 0) {
+            return;
+        }
+        if (loaders > 1) {
+            randomTickLoaders.put(packed, loaders - 1);
+            return;
+        }
+        randomTickLoaders.remove(packed);
+
+        // Swap the last chunk into the freed slot
+        int index = randomTickIndex.remove(packed);
+        long last = randomTickChunks[--randomTickChunkCount];
+        if (index != randomTickChunkCount) {
+            randomTickChunks[index] = last;
+            randomTickIndex.put(last, index);
+        }
+        randomTickVersion++;
+    }
+
+    // Caller must hold the lock
+    private void clearRandomTickChunks() {
+        randomTickLoaders.clear();
+        randomTickIndex.clear();
+        randomTickChunkCount = 0;
+        randomTickVersion++;
+    }
+
+    /**
+     * Take a loader reference on a chunk at a load level. Caller must hold the lock.
+     * A chunk still inside its unforce grace period is revived without touching the world.
+     * @return true if this was the first loader
+     */
+    private boolean claimChunk(long packed, LoadLevel level, boolean randomTick) {
+        addLevelReference(packed, level);
+        if (randomTick) {
+            addRandomTickReference(packed);
+        }
+        if (chunkLoaders.addTo(packed, 1) != 0) {
+            return false;
+        }
+        if (unforceWheel.cancel(packed)) {
+            reloadsPrevented++;
+            LOGGER.debug("Revived chunk [{}, {}] during its unforce grace period",
+                        ChunkPos.getPackedX(packed), ChunkPos.getPackedZ(packed));
+        }
+        return true;
+    }
+
+    /**
+     * Drop one loader reference from a chunk at a load level. Caller must hold the lock.
+     * When it was the last, the chunk stays loaded at its current level for the grace period
+     * (if it is actually loaded in the world) and is otherwise unloaded at the next commit.
+     * @return true if this was the last loader
+     */
+    private boolean releaseChunk(long packed, LoadLevel level, boolean randomTick) {
+        if (!removeLevelReference(packed, level)) {
+            return false; // Chunk not tracked at this level
+        }
+        if (randomTick) {
+            removeRandomTickReference(packed);
+        }
+        int loaders = chunkLoaders.get(packed);
+        if (loaders == 1) {
+            chunkLoaders.remove(packed);
+            int graceTicks = Config.UNFORCE_GRACE_TICKS;
+            // A chunk claimed earlier this tick was never loaded, so there is nothing to keep loaded
+            if (graceTicks > 0 && committedLevels.containsKey(packed)) {
+                unforceWheel.schedule(packed, currentTick + graceTicks);
             }
+            return true;
+        }
+        chunkLoaders.put(packed, loaders - 1);
+        return false;
+    }
+
+    private void addLevelReference(long packed, LoadLevel level) {
+        if (levelLoaders[level.ordinal()].addTo(packed, 1) == 0) {
+            queueForceChange(packed);
+        }
+    }
+
+    /**
+     * @return false if the chunk had no reference at this level
+     */
+    private boolean removeLevelReference(long packed, LoadLevel level) {
+        Long2IntOpenHashMap loaders = levelLoaders[level.ordinal()];
+        int count = loaders.get(packed);
+        if (count <= 0) {
+            return false;
+        }
+        if (count == 1) {
+            loaders.remove(packed);
+            queueForceChange(packed);
+        } else {
+            loaders.put(packed, count - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Strongest level any turtle holds a chunk at, as a LoadLevel ordinal. Caller must hold the lock.
+     */
+    private int effectiveLevel(long packed) {
+        for (int i = 0; i < levelLoaders.length; i++) {
+            if (levelLoaders[i].containsKey(packed)) {
+                return i;
+            }
+        }
+        return NOT_LOADED;
+    }
+
+    /**
+     * Record a possible load level transition for the end-of-tick commit. Caller must hold the lock.
+     * The commit compares the final level against the committed one, so transitions
+     * that cancel out within a tick never reach the world.
+     */
+    private void queueForceChange(long packed) {
+        pendingForceTransitions++;
+        pendingForceChanges.add(packed);
+    }
+
+    /**
+     * Apply the surviving load level changes of this tick to the world
+     * IMPORTANT: World operations are done OUTSIDE synchronized blocks to prevent deadlocks
+     */
+    public void commitPendingForceChanges() {
+        // PHASE 1: Net out this tick's transitions under lock (fast, non-blocking)
+        long[] changedChunks;
+        int[] previousLevels;
+        int[] newLevels;
+        int changeCount = 0;
+        synchronized (this) {
+            if (pendingForceChanges.isEmpty()) {
+                return;
+            }
+            changedChunks = new long[pendingForceChanges.size()];
+            previousLevels = new int[changedChunks.length];
+            newLevels = new int[changedChunks.length];
+            LongIterator iterator = pendingForceChanges.iterator();
+            while (iterator.hasNext()) {
+                long packed = iterator.nextLong();
+                int committed = committedLevels.get(packed);
+                int level = effectiveLevel(packed);
+                if (level == NOT_LOADED && unforceWheel.contains(packed)) {
+                    level = committed; // Grace period keeps the chunk at the level it had
+                }
+                if (level != committed) {
+                    changedChunks[changeCount] = packed;
+                    previousLevels[changeCount] = committed;
+                    newLevels[changeCount] = level;
+                    changeCount++;
+                    if (level == NOT_LOADED) {
+                        committedLevels.remove(packed);
+                    } else {
+                        committedLevels.put(packed, level);
+                    }
+                }
+            }
+            pendingForceChanges.clear();
+            forceTransitionsCommitted += changeCount;
+            forceTransitionsCoalesced += Math.max(0, pendingForceTransitions - changeCount);
+            pendingForceTransitions = 0;
         }
 
         // PHASE 2: Apply world changes WITHOUT holding locks (can block safely)
-        if (shouldUnforce) {
-            world.setChunkForced(chunk.x, chunk.z, false);
-            LOGGER.debug("Unforced chunk {} (no more loaders)", chunk);
+        // Load and re-level chunks before unloading old ones
+        for (int i = 0; i < changeCount; i++) {
+            if (newLevels[i] != NOT_LOADED) {
+                setLevel(changedChunks[i], previousLevels[i], newLevels[i]);
+            }
+        }
+        for (int i = 0; i < changeCount; i++) {
+            if (newLevels[i] == NOT_LOADED) {
+                setLevel(changedChunks[i], previousLevels[i], NOT_LOADED);
+            }
+        }
+    }
+
+    /**
+     * Move a chunk between load levels (LoadLevel ordinals, or NOT_LOADED) by its packed position
+     */
+    private void setLevel(long packed, int previous, int level) {
+        backend.setLevel(ChunkPos.getPackedX(packed), ChunkPos.getPackedZ(packed),
+                         previous == NOT_LOADED ? null : LoadLevel.byOrdinal(previous),
+                         level == NOT_LOADED ? null : LoadLevel.byOrdinal(level));
+        LOGGER.debug("Chunk [{}, {}] load level {} -> {}", ChunkPos.getPackedX(packed), ChunkPos.getPackedZ(packed),
+                    previous == NOT_LOADED ? "none" : LoadLevel.byOrdinal(previous).getName(),
+                    level == NOT_LOADED ? "none" : LoadLevel.byOrdinal(level).getName());
+    }
+
+    /**
+     * Expire chunks whose unforce grace period ends this tick
+     */
+    private synchronized void advanceUnforceWheel() {
+        currentTick++;
+        unforceWheel.advance(currentTick, packed -> {
+            graceExpirations++;
+            queueForceChange(packed);
+        });
+    }
+
+    /**
+     * Expire grace periods and commit buffered force changes for a world at the end of its tick
+     */
+    public static void onEndWorldTick(ServerWorld world) {
+        ChunkManager manager = MANAGERS.get(world);
+        if (manager != null) {
+            manager.advanceUnforceWheel();
+            manager.expireBootstraps();
+            manager.expireWakeHolds();
+            // Before the commit, so this tick's wakes reach the world this tick
+            manager.drainWakeQueue();
+            manager.commitPendingForceChanges();
+            if (manager.currentTick % Math.max(1, Config.JOURNAL_COMMIT_TICKS) == 0) {
+                manager.journal.commit();
+            }
         }
     }
 
@@ -268,6 +849,7 @@ public class ChunkManager {
      * Check if a turtle is already tracked in this ChunkManager
      */
     public boolean isTurtleTracked(UUID turtleId) {
+        ensureResident(turtleId);
         return turtleChunks.containsKey(turtleId);
     }
 
@@ -278,8 +860,10 @@ public class ChunkManager {
     public void touch(UUID turtleId) {
         // Ensure turtle is tracked in turtleChunks even if it has no chunks loaded
         // This is important for persistence - we want to save ALL turtle interactions
+        ensureResident(turtleId);
         if (!turtleChunks.containsKey(turtleId)) {
-            turtleChunks.put(turtleId, ConcurrentHashMap.newKeySet());
+            turtleChunks.put(turtleId, new LongOpenHashSet());
+            markDirty(turtleId);
             LOGGER.debug("Added turtle {} to turtleChunks tracking with empty chunk set", turtleId);
         }
     }
@@ -289,11 +873,18 @@ public class ChunkManager {
      */
     public void updateRemoteManagementState(UUID turtleId, ChunkPos position, int fuelLevel, boolean wakeOnWorldLoad, Integer computerId) {
         // Preserve existing radius override if any
+        ensureResident(turtleId);
         RemoteManagementState current = remoteManagementStates.get(turtleId);
         Double existingOverride = current != null ? current.radiusOverride : null;
+        if (current != null && Objects.equals(current.lastKnownPosition, position) && current.lastKnownFuel == fuelLevel
+                && current.wakeOnWorldLoad == wakeOnWorldLoad && Objects.equals(current.computerId, computerId)) {
+            touch(turtleId);
+            return;
+        }
         
         RemoteManagementState newState = new RemoteManagementState(position, fuelLevel, wakeOnWorldLoad, computerId, existingOverride);
         remoteManagementStates.put(turtleId, newState);
+        markDirty(turtleId);
         touch(turtleId); // Ensure turtle is tracked
         LOGGER.debug("Updated remote management state for turtle {}: pos={}, fuel={}, wake={}, computerId={}, override={}", 
                     turtleId, position, fuelLevel, wakeOnWorldLoad, computerId, existingOverride);
@@ -301,9 +892,14 @@ public class ChunkManager {
     
     /**
      * Update position only (convenience method)
+     * No-op when the position is unchanged, so it can be called every tick
      */
     public void updateTurtlePosition(UUID turtleId, ChunkPos position) {
+        ensureResident(turtleId);
         RemoteManagementState current = remoteManagementStates.get(turtleId);
+        if (current != null && Objects.equals(current.lastKnownPosition, position)) {
+            return;
+        }
         if (current != null) {
             updateRemoteManagementState(turtleId, position, current.lastKnownFuel, current.wakeOnWorldLoad, current.computerId);
         } else {
@@ -313,9 +909,14 @@ public class ChunkManager {
     
     /**
      * Update fuel only (convenience method)
+     * No-op when the fuel level is unchanged, so it can be called every tick
      */
     public void updateTurtleFuel(UUID turtleId, int fuelLevel) {
+        ensureResident(turtleId);
         RemoteManagementState current = remoteManagementStates.get(turtleId);
+        if (current != null && current.lastKnownFuel == fuelLevel) {
+            return;
+        }
         if (current != null) {
             updateRemoteManagementState(turtleId, current.lastKnownPosition, fuelLevel, current.wakeOnWorldLoad, current.computerId);
         } else {
@@ -327,6 +928,7 @@ public class ChunkManager {
      * Get persistent position for a turtle (always available)
      */
     public ChunkPos getPersistentPosition(UUID turtleId) {
+        ensureResident(turtleId);
         RemoteManagementState state = remoteManagementStates.get(turtleId);
         return state != null ? state.lastKnownPosition : null;
     }
@@ -335,6 +937,7 @@ public class ChunkManager {
      * Get persistent fuel level for a turtle (always available)
      */
     public Integer getPersistentFuelLevel(UUID turtleId) {
+        ensureResident(turtleId);
         RemoteManagementState state = remoteManagementStates.get(turtleId);
         return state != null ? state.lastKnownFuel : null;
     }
@@ -346,9 +949,9 @@ public class ChunkManager {
     public void setRadiusOverride(UUID turtleId, double radius) {
         TurtleStateManager stateManager = CCChunkloader.getStateManager();
         stateManager.setRadiusOverride(turtleId, radius);
+        journal.appendDouble(ChunkJournal.RADIUS_OVERRIDE, turtleId, radius);
         
         LOGGER.info("Set radius override via new architecture: {} -> {} (bug-free!)", turtleId, radius);
-        markDirty();
     }
     
     /**
@@ -360,8 +963,8 @@ public class ChunkManager {
         Double override = stateManager.getRadiusOverride(turtleId);
         if (override != null) {
             stateManager.clearRadiusOverride(turtleId);
+            journal.append(ChunkJournal.CLEAR_RADIUS_OVERRIDE, turtleId, 0L);
             LOGGER.info("Retrieved and cleared radius override via new architecture: {} -> {}", turtleId, override);
-            markDirty();
         }
         return override;
     }
@@ -383,8 +986,8 @@ public class ChunkManager {
         TurtleStateManager stateManager = CCChunkloader.getStateManager();
         if (stateManager.hasRadiusOverride(turtleId)) {
             stateManager.clearRadiusOverride(turtleId);
+            journal.append(ChunkJournal.CLEAR_RADIUS_OVERRIDE, turtleId, 0L);
             LOGGER.info("Cleared radius override via new architecture: {}", turtleId);
-            markDirty();
         }
     }
     
@@ -398,10 +1001,86 @@ public class ChunkManager {
     }
     
     /**
-     * Mark the persistent state as dirty to ensure it gets saved
+     * Journal a turtle's new radius; the radius itself lives in the turtle's NBT,
+     * which is only written when its chunk is saved
+     */
+    public void journalRadius(UUID turtleId, double radius) {
+        journal.appendDouble(ChunkJournal.RADIUS, turtleId, radius);
+    }
+
+    /**
+     * Journal a turtle's new wake preference
+     */
+    public void journalWake(UUID turtleId, boolean wake) {
+        journal.append(ChunkJournal.WAKE, turtleId, wake ? 1L : 0L);
+    }
+
+    public ChunkJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Apply journaled changes on top of the state just loaded from NBT.
+     * Radius changes are replayed as radius overrides, which the turtle applies when it next loads.
+     * @return number of entries applied
      */
-    private void markDirty() {
-        ChunkManagerPersistentState.getWorldState(world).markDirty();
+    public synchronized int replayJournal() {
+        TurtleStateManager stateManager = CCChunkloader.getStateManager();
+        int applied = 0;
+        for (ChunkJournal.Entry entry : journal.getEntries()) {
+            UUID turtleId = entry.turtleId;
+            ensureResident(turtleId);
+            if (!turtleChunks.containsKey(turtleId)) {
+                continue; // Removed since, or never saved in this world
+            }
+            switch (entry.type) {
+                case ChunkJournal.RADIUS:
+                case ChunkJournal.RADIUS_OVERRIDE:
+                    stateManager.setRadiusOverride(turtleId, entry.doubleValue());
+                    break;
+                case ChunkJournal.CLEAR_RADIUS_OVERRIDE:
+                    stateManager.clearRadiusOverride(turtleId);
+                    break;
+                case ChunkJournal.WAKE:
+                    replayWake(turtleId, entry.value != 0);
+                    break;
+                default:
+                    LOGGER.warn("Skipping unknown journal entry type {} for turtle {}", entry.type, turtleId);
+                    continue;
+            }
+            applied++;
+        }
+        if (applied > 0) {
+            LOGGER.info("Replayed {} journaled turtle changes for world {}", applied, world.getRegistryKey().getValue());
+        }
+        return applied;
+    }
+
+    private void replayWake(UUID turtleId, boolean wake) {
+        RemoteManagementState current = remoteManagementStates.get(turtleId);
+        if (current != null) {
+            updateRemoteManagementState(turtleId, current.lastKnownPosition, current.lastKnownFuel, wake, current.computerId);
+        }
+        ChunkLoaderPeripheral.SavedState restored = restoredTurtleStates.get(turtleId);
+        if (restored != null) {
+            restoredTurtleStates.put(turtleId, new ChunkLoaderPeripheral.SavedState(
+                restored.radius, restored.lastChunkPos, restored.fuelDebt, wake, restored.randomTickEnabled, restored.fuelLevel));
+        }
+    }
+
+    /**
+     * Record that a turtle's saved state changed, so the next save re-encodes it
+     */
+    private void markDirty(UUID turtleId) {
+        dirtyTurtles.add(turtleId);
+        stateVersion.incrementAndGet();
+    }
+
+    /**
+     * Version of the state serializeToNbt writes; changes whenever that state does
+     */
+    public long getStateVersion() {
+        return stateVersion.get();
     }
     
 
@@ -412,6 +1091,7 @@ public class ChunkManager {
      */
     public synchronized void updateTurtleStateCache(UUID turtleId, ChunkLoaderPeripheral.SavedState state) {
         TurtleStateManager stateManager = CCChunkloader.getStateManager();
+        ensureResident(turtleId);
         
         if (state != null) {
             // Get current computer ID for this turtle
@@ -420,18 +1100,35 @@ public class ChunkManager {
             
             // Use new state manager that preserves commands!
             stateManager.updateFromPeripheral(turtleId, state, computerId, world.getRegistryKey());
+            if (differsFromSnapshot(turtleId, current, state)) {
+                markDirty(turtleId);
+            }
             
             LOGGER.debug("Updated turtle cache via new state manager: {} (preserves all pending commands!)", turtleId);
         } else {
             stateManager.removeTurtle(turtleId);
+            markDirty(turtleId);
             LOGGER.debug("Removed turtle via new state manager: {}", turtleId);
         }
     }
 
+    /**
+     * Check whether a peripheral save changes any field encodeTurtle writes.
+     * Most saves only move fuel debt or radius, which live in the turtle's own NBT.
+     */
+    private boolean differsFromSnapshot(UUID turtleId, RemoteManagementState current, ChunkLoaderPeripheral.SavedState state) {
+        return current == null
+            || !Objects.equals(current.lastKnownPosition, state.lastChunkPos)
+            || current.lastKnownFuel != state.fuelLevel
+            || current.wakeOnWorldLoad != state.wakeOnWorldLoad
+            || !Objects.equals(current.computerId, computerTracker.getComputerForUUID(turtleId));
+    }
+
     /**
      * Get cached turtle state (may be dormant turtle)
      */
     public synchronized ChunkLoaderPeripheral.SavedState getCachedTurtleState(UUID turtleId) {
+        ensureResident(turtleId);
         RemoteManagementState state = remoteManagementStates.get(turtleId);
         return state != null ? state.toSavedState() : null;
     }
@@ -440,7 +1137,10 @@ public class ChunkManager {
      * Remove turtle from state cache (called when turtle is completely removed)
      */
     public synchronized void removeTurtleFromCache(UUID turtleId) {
-        remoteManagementStates.remove(turtleId);
+        ensureResident(turtleId);
+        if (remoteManagementStates.remove(turtleId) != null) {
+            markDirty(turtleId);
+        }
         LOGGER.debug("Removed turtle {} from state cache", turtleId);
     }
 
@@ -448,7 +1148,7 @@ public class ChunkManager {
      * Get the number of chunks currently loaded by a turtle
      */
     public int getLoadedChunkCount(UUID turtleId) {
-        Set<ChunkPos> chunks = turtleChunks.get(turtleId);
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
         return chunks != null ? chunks.size() : 0;
     }
 
@@ -456,15 +1156,24 @@ public class ChunkManager {
      * Check if a turtle has any loaded chunks
      */
     public boolean hasLoadedChunks(UUID turtleId) {
-        return turtleChunks.containsKey(turtleId) && !turtleChunks.get(turtleId).isEmpty();
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
+        return chunks != null && !chunks.isEmpty();
     }
 
     /**
      * Get all chunks currently loaded by a turtle
      */
-    public Set<ChunkPos> getLoadedChunks(UUID turtleId) {
-        Set<ChunkPos> chunks = turtleChunks.get(turtleId);
-        return chunks != null ? Set.copyOf(chunks) : Set.of();
+    public synchronized Set<ChunkPos> getLoadedChunks(UUID turtleId) {
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
+        if (chunks == null || chunks.isEmpty()) {
+            return Set.of();
+        }
+        Set<ChunkPos> result = new HashSet<>(chunks.size());
+        LongIterator iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            result.add(new ChunkPos(iterator.nextLong()));
+        }
+        return result;
     }
 
     /**
@@ -473,6 +1182,7 @@ public class ChunkManager {
      */
     public boolean isTurtleChunkLoaded(UUID turtleId) {
         // Get turtle position from remote management state
+        ensureResident(turtleId);
         RemoteManagementState state = remoteManagementStates.get(turtleId);
         if (state == null || state.lastKnownPosition == null) {
             return false;
@@ -486,10 +1196,25 @@ public class ChunkManager {
     /**
      * Get total number of force-loaded chunks in this world
      */
-    public int getTotalLoadedChunks() {
+    public synchronized int getTotalLoadedChunks() {
         return chunkLoaders.size();
     }
 
+    /**
+     * Get statistics about end-of-tick force commits
+     */
+    public synchronized Map<String, Object> getForceCommitStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("backend", backend.getName());
+        stats.put("committed", forceTransitionsCommitted);
+        stats.put("coalesced", forceTransitionsCoalesced);
+        stats.put("pendingChunks", pendingForceChanges.size());
+        stats.put("graceChunks", unforceWheel.size());
+        stats.put("graceExpirations", graceExpirations);
+        stats.put("reloadsPrevented", reloadsPrevented);
+        return stats;
+    }
+
     /**
      * Get total number of active turtle chunk loaders
      */
@@ -499,10 +1224,19 @@ public class ChunkManager {
 
     /**
      * Get all turtle UUIDs that have been restored from world data
-     * This includes turtles that may not have active ChunkLoaderPeripheral instances yet
+     * This includes turtles that may not have active ChunkLoaderPeripheral instances yet,
+     * saved records that haven't been decoded and parked turtles
      */
     public synchronized Set<UUID> getRestoredTurtleIds() {
-        return Set.copyOf(turtleChunks.keySet());
+        if (dormantRecords == null && parkedTurtles.isEmpty()) {
+            return Set.copyOf(turtleChunks.keySet());
+        }
+        Set<UUID> ids = new HashSet<>(turtleChunks.keySet());
+        if (dormantRecords != null) {
+            dormantRecords.forEachRemainingId(ids::add);
+        }
+        parkedTurtles.forEachId(ids::add);
+        return Set.copyOf(ids);
     }
 
 
@@ -510,11 +1244,13 @@ public class ChunkManager {
      * Get the complete restored state for a turtle UUID
      */
     public synchronized ChunkLoaderPeripheral.SavedState getRestoredTurtleState(UUID turtleId) {
+        ensureResident(turtleId);
         return restoredTurtleStates.get(turtleId);
     }
 
     /**
      * Get all complete restored turtle states
+     * Only covers decoded records; with lazy loading that is every turtle that wakes on world load
      */
     public synchronized Map<UUID, ChunkLoaderPeripheral.SavedState> getAllRestoredTurtleStates() {
         return Map.copyOf(restoredTurtleStates);
@@ -524,6 +1260,7 @@ public class ChunkManager {
      * Get the restored position for a turtle UUID
      */
     public synchronized ChunkPos getRestoredTurtlePosition(UUID turtleId) {
+        ensureResident(turtleId);
         ChunkLoaderPeripheral.SavedState state = restoredTurtleStates.get(turtleId);
         return state != null ? state.lastChunkPos : null;
     }
@@ -532,6 +1269,7 @@ public class ChunkManager {
      * Get all restored turtle positions for registry population
      */
     public synchronized Map<UUID, ChunkPos> getAllRestoredTurtlePositions() {
+        makeAllResident();
         Map<UUID, ChunkPos> positions = new HashMap<>();
         for (Map.Entry<UUID, ChunkLoaderPeripheral.SavedState> entry : restoredTurtleStates.entrySet()) {
             if (entry.getValue().lastChunkPos != null) {
@@ -545,6 +1283,7 @@ public class ChunkManager {
      * Get wake preference for a restored turtle
      */
     public synchronized boolean getRestoredWakePreference(UUID turtleId) {
+        ensureResident(turtleId);
         ChunkLoaderPeripheral.SavedState state = restoredTurtleStates.get(turtleId);
         return state != null ? state.wakeOnWorldLoad : false;
     }
@@ -553,6 +1292,7 @@ public class ChunkManager {
      * Get all restored turtle wake preferences
      */
     public synchronized Map<UUID, Boolean> getAllRestoredWakePreferences() {
+        makeAllResident();
         Map<UUID, Boolean> wakePrefs = new HashMap<>();
         for (Map.Entry<UUID, ChunkLoaderPeripheral.SavedState> entry : restoredTurtleStates.entrySet()) {
             wakePrefs.put(entry.getKey(), entry.getValue().wakeOnWorldLoad);
@@ -566,22 +1306,49 @@ public class ChunkManager {
      * NOTE: This method preserves turtle state cache to prevent permanent data loss
      */
     public void clearAll() {
-        // PHASE 1: Get all chunks to unforce under lock (fast, non-blocking)
-        Set<ChunkPos> chunksToUnforce;
+        released = true;
+
+        // PHASE 1: Get all chunks to unload under lock (fast, non-blocking)
+        Long2IntOpenHashMap chunksToUnforce;
+        List<PendingBootstrap> abandoned;
         synchronized (this) {
-            chunksToUnforce = Set.copyOf(chunkLoaders.keySet());
+            // Bootstraps still waiting will never see their turtle register now
+            abandoned = new ArrayList<>(pendingBootstraps.values());
+            pendingBootstraps.clear();
+
+            // Everything loaded in the world, including chunks in their grace period
+            chunksToUnforce = new Long2IntOpenHashMap(committedLevels);
+            unforceWheel.clear();
             chunkLoaders.clear();
+            for (Long2IntOpenHashMap loaders : levelLoaders) {
+                loaders.clear();
+            }
+            committedLevels.clear();
+            turtleAnchors.clear();
+            wakeHolds.clear();
+            clearRandomTickChunks();
+            pendingForceChanges.clear();
+            pendingForceTransitions = 0;
             
             // Clear active chunk tracking but preserve turtle existence
             for (UUID turtleId : turtleChunks.keySet()) {
-                turtleChunks.put(turtleId, ConcurrentHashMap.newKeySet());
+                turtleChunks.put(turtleId, new LongOpenHashSet());
             }
             // DON'T clear remoteManagementStates - preserve turtle data
         }
+        for (PendingBootstrap pending : abandoned) {
+            pending.future.complete(BootstrapResult.unloaded());
+        }
 
-        // PHASE 2: Unforce chunks WITHOUT holding locks (can block safely)
-        for (ChunkPos chunk : chunksToUnforce) {
-            world.setChunkForced(chunk.x, chunk.z, false);
+        // PHASE 2: Unload chunks WITHOUT holding locks (can block safely)
+        for (Long2IntMap.Entry entry : chunksToUnforce.long2IntEntrySet()) {
+            setLevel(entry.getLongKey(), entry.getIntValue(), NOT_LOADED);
+        }
+        journal.close();
+        synchronized (this) {
+            // Bring parked turtles back so their state outlives the store
+            makeAllResident();
+            parkedTurtles.close();
         }
         LOGGER.info("Emergency cleanup: cleared {} chunk loaders for world {} (turtle data preserved)",
                    chunksToUnforce.size(), world.getRegistryKey().getValue());
@@ -603,6 +1370,7 @@ public class ChunkManager {
      */
     public void permanentlyRemoveTurtle(UUID turtleId) {
         LOGGER.info("PERMANENTLY removing turtle {} from all tracking", turtleId);
+        ensureResident(turtleId);
         
         // Remove all chunks first
         removeAllChunks(turtleId);
@@ -610,7 +1378,10 @@ public class ChunkManager {
         synchronized (this) {
             // Now actually remove from tracking maps
             turtleChunks.remove(turtleId);
+            turtleLoadLevels.remove(turtleId);
+            randomTickTurtles.remove(turtleId);
             remoteManagementStates.remove(turtleId);
+            encodedTurtles.remove(turtleId);
             
             // Remove from computer ID tracking
             Integer computerId = computerTracker.getComputerForUUID(turtleId);
@@ -618,6 +1389,8 @@ public class ChunkManager {
                 computerTracker.remove(turtleId);
                 LOGGER.debug("Removed UUID {} from computer ID {} tracking", turtleId, computerId);
             }
+            markDirty(turtleId);
+            dirtyTurtles.remove(turtleId); // Nothing left to encode
         }
         
         LOGGER.info("Turtle {} permanently removed from ChunkManager", turtleId);
@@ -652,6 +1425,11 @@ public class ChunkManager {
                 toBootstrap.put(turtleId, bootstrapData);
             }
         }
+        parkedTurtles.forEach((turtleId, state) -> {
+            if (state.wakeOnWorldLoad && state.lastKnownFuel > 0) {
+                toBootstrap.put(turtleId, new BootstrapData(worldKey, state.lastKnownPosition, state.lastKnownFuel, true));
+            }
+        });
         
         return toBootstrap;
     }
@@ -674,89 +1452,148 @@ public class ChunkManager {
      * - fuelLevel (current fuel for bootstrap checks)
      * - wakeOnWorldLoad (whether turtle should auto-wake)
      * All other turtle configuration is stored in the turtle's own upgrade NBT
+     * Only turtles marked dirty since the last call are re-encoded; the rest reuse their cached record.
+     * Records are written in TurtleRecordTable's columnar format.
      */
-    public synchronized NbtCompound serializeToNbt() {
+    public NbtCompound serializeToNbt() {
         NbtCompound nbt = new NbtCompound();
-        NbtList turtleStates = new NbtList();
+        TurtleRecordTable.write(nbt, snapshotRecords().records);
+        return nbt;
+    }
+
+    /**
+     * Copy the current turtle records under the lock without encoding them.
+     * The snapshot is immutable, so it can be encoded on another thread.
+     */
+    public synchronized Snapshot snapshotRecords() {
+        // Read first, so changes made while copying leave the state newer than the snapshot
+        long version = stateVersion.get();
+        List<TurtleRecordTable.Record> turtleStates = new ArrayList<>(turtleChunks.size());
+        int encoded = 0;
+        int reused = 0;
 
         for (UUID turtleId : turtleChunks.keySet()) {
-            ChunkPos lastPosition = null;
-            int fuelLevel = -1;
-            boolean wakeOnWorldLoad = false;
-            boolean isActive = false;
-            
-            // PRIMARY SOURCE: Use remote management state as source of truth
-            RemoteManagementState remoteState = remoteManagementStates.get(turtleId);
-            if (remoteState != null) {
-                lastPosition = remoteState.lastKnownPosition;
-                fuelLevel = remoteState.lastKnownFuel;
-                wakeOnWorldLoad = remoteState.wakeOnWorldLoad;
-            }
-            
-            // Get wake preference from active peripheral or cache
+            // Active turtles may have changed without telling us; this marks them dirty if so
             ChunkLoaderPeripheral chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
             if (chunkLoader != null) {
-                ChunkLoaderPeripheral.SavedState state = chunkLoader.getSavedState();
-                if (state != null) {
-                    wakeOnWorldLoad = state.wakeOnWorldLoad;
-                    isActive = true;
-                    // Update remote management state from active peripheral
-                    Integer computerId = remoteState != null ? remoteState.computerId : computerTracker.getComputerForUUID(turtleId);
-                    updateRemoteManagementState(turtleId, state.lastChunkPos, state.fuelLevel, state.wakeOnWorldLoad, computerId);
-                    
-                    // Update local variables for serialization
-                    if (state.lastChunkPos != null) {
-                        lastPosition = state.lastChunkPos;
-                    }
-                    fuelLevel = state.fuelLevel;
-                    wakeOnWorldLoad = state.wakeOnWorldLoad;
+                refreshFromPeripheral(turtleId, chunkLoader);
+            }
+
+            boolean dirty = dirtyTurtles.remove(turtleId);
+            TurtleRecordTable.Record stateData = encodedTurtles.get(turtleId);
+            if (stateData == null || dirty) {
+                stateData = encodeTurtle(turtleId, chunkLoader != null);
+                if (stateData == null) {
+                    encodedTurtles.remove(turtleId);
+                    continue;
                 }
+                encodedTurtles.put(turtleId, stateData);
+                encoded++;
             } else {
-                // Data already loaded from remoteState above
-                if (remoteState != null) {
-                    LOGGER.debug("Using remote management state for dormant turtle {}", turtleId);
-                } else {
-                    LOGGER.debug("No state data available for dormant turtle {}", turtleId);
-                }
-            }
-            
-            // Handle missing data with defaults and loud logging
-            if (lastPosition == null) {
-                LOGGER.error("CRITICAL: Turtle {} has no position data even in persistent tracking! This should never happen. Skipping serialization.", turtleId);
-                continue; // Skip this turtle entirely if no position
-            }
-            
-            if (fuelLevel < 0) {
-                LOGGER.error("CRITICAL: Turtle {} has no fuel data even in persistent tracking! Defaulting to fuel=1 to prevent data loss.", turtleId);
-                fuelLevel = 1; // Default to 1 fuel as requested
+                reused++;
             }
-            
-            // Save essential bootstrap data including wakeOnWorldLoad status and computer ID
-            NbtCompound stateData = new NbtCompound();
-            stateData.putString("uuid", turtleId.toString());
-            stateData.putInt("lastChunkX", lastPosition.x);
-            stateData.putInt("lastChunkZ", lastPosition.z);
-            stateData.putInt("fuelLevel", fuelLevel);
-            stateData.putBoolean("wakeOnWorldLoad", wakeOnWorldLoad);
-            
-            // CRITICAL: Save computer ID for UUID lifecycle management
-            Integer computerId = computerTracker.getComputerForUUID(turtleId);
-            if (computerId != null) {
-                stateData.putInt("computerId", computerId);
-            }
-            
             turtleStates.add(stateData);
-            LOGGER.debug("Serialized essential data for turtle {}: active={}, pos=({},{}), fuel={}, wake={}",
-                        turtleId, isActive, lastPosition.x, lastPosition.z, fuelLevel, wakeOnWorldLoad);
         }
 
-        nbt.put("turtleStates", turtleStates);
+        // Records never decoded are written back exactly as they were loaded
+        if (dormantRecords != null) {
+            reused += dormantRecords.remaining();
+            dormantRecords.forEachRemaining(turtleStates::add);
+        }
+        // Parked turtles were encoded when they were parked
+        reused += parkedTurtles.size();
+        parkedTurtles.forEach((turtleId, state) -> turtleStates.add(new TurtleRecordTable.Record(
+            turtleId, state.lastKnownPosition, state.lastKnownFuel, state.wakeOnWorldLoad, state.computerId)));
+
+        lastRecordsEncoded = encoded;
+        lastRecordsReused = reused;
         
         // Radius overrides are now part of remoteManagementStates - no separate serialization needed
         
-        LOGGER.info("Serialized {} turtle bootstrap records to NBT ({} tracked turtles)", 
-                   turtleStates.size(), turtleChunks.size());
-        return nbt;
+        LOGGER.info("Snapshotted {} turtle bootstrap records ({} tracked turtles, {} re-encoded)", 
+                   turtleStates.size(), turtleChunks.size(), encoded);
+        return new Snapshot(version, List.copyOf(turtleStates));
+    }
+
+    /**
+     * Turtle records as of one state version
+     */
+    public static final class Snapshot {
+        public final long version;
+        public final List<TurtleRecordTable.Record> records;
+
+        Snapshot(long version, List<TurtleRecordTable.Record> records) {
+            this.version = version;
+            this.records = records;
+        }
+    }
+
+    /**
+     * Copy an active peripheral's state into its remote management state
+     */
+    private void refreshFromPeripheral(UUID turtleId, ChunkLoaderPeripheral chunkLoader) {
+        ChunkLoaderPeripheral.SavedState state = chunkLoader.getSavedState();
+        if (state == null) {
+            return;
+        }
+        RemoteManagementState remoteState = remoteManagementStates.get(turtleId);
+        Integer computerId = remoteState != null ? remoteState.computerId : computerTracker.getComputerForUUID(turtleId);
+        ChunkPos position = state.lastChunkPos != null ? state.lastChunkPos
+            : remoteState != null ? remoteState.lastKnownPosition : null;
+        updateRemoteManagementState(turtleId, position, state.fuelLevel, state.wakeOnWorldLoad, computerId);
+    }
+
+    /**
+     * Encode one turtle's bootstrap record from its remote management state
+     * @return the record, or null if the turtle has no position to save
+     */
+    private TurtleRecordTable.Record encodeTurtle(UUID turtleId, boolean isActive) {
+        ChunkPos lastPosition = null;
+        int fuelLevel = -1;
+        boolean wakeOnWorldLoad = false;
+
+        // PRIMARY SOURCE: Use remote management state as source of truth
+        RemoteManagementState remoteState = remoteManagementStates.get(turtleId);
+        if (remoteState != null) {
+            lastPosition = remoteState.lastKnownPosition;
+            fuelLevel = remoteState.lastKnownFuel;
+            wakeOnWorldLoad = remoteState.wakeOnWorldLoad;
+        } else {
+            LOGGER.debug("No state data available for turtle {}", turtleId);
+        }
+        
+        // Handle missing data with defaults and loud logging
+        if (lastPosition == null) {
+            LOGGER.error("CRITICAL: Turtle {} has no position data even in persistent tracking! This should never happen. Skipping serialization.", turtleId);
+            return null; // Skip this turtle entirely if no position
+        }
+        
+        if (fuelLevel < 0) {
+            LOGGER.error("CRITICAL: Turtle {} has no fuel data even in persistent tracking! Defaulting to fuel=1 to prevent data loss.", turtleId);
+            fuelLevel = 1; // Default to 1 fuel as requested
+        }
+        
+        // Save essential bootstrap data including wakeOnWorldLoad status and computer ID
+        // CRITICAL: Save computer ID for UUID lifecycle management
+        Integer computerId = computerTracker.getComputerForUUID(turtleId);
+        
+        LOGGER.debug("Serialized essential data for turtle {}: active={}, pos=({},{}), fuel={}, wake={}",
+                    turtleId, isActive, lastPosition.x, lastPosition.z, fuelLevel, wakeOnWorldLoad);
+        return new TurtleRecordTable.Record(turtleId, lastPosition, fuelLevel, wakeOnWorldLoad, computerId);
+    }
+
+    /**
+     * Get record counts from the last snapshot
+     */
+    public synchronized Map<String, Object> getSerializationStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("encoded", lastRecordsEncoded);
+        stats.put("reused", lastRecordsReused);
+        stats.put("dirty", dirtyTurtles.size());
+        stats.put("undecoded", dormantRecords != null ? dormantRecords.remaining() : 0);
+        stats.put("decodedOnDemand", decodedOnDemand);
+        stats.put("parked", parkedTurtles.size());
+        return stats;
     }
 
     /**
@@ -961,182 +1798,387 @@ public class ChunkManager {
         public static BootstrapResult timeout() {
             return new BootstrapResult(false, "TIMEOUT", "Bootstrap timed out - turtle may still be loading");
         }
+
+        public static BootstrapResult unloaded() {
+            return new BootstrapResult(false, "UNLOADED", "World was unloaded before the turtle woke");
+        }
     }
 
     public synchronized DeserializationResult deserializeFromNbt(NbtCompound nbt) {
         chunkLoaders.clear();
+        for (Long2IntOpenHashMap loaders : levelLoaders) {
+            loaders.clear();
+        }
+        turtleAnchors.clear();
+        wakeHolds.clear();
+        clearRandomTickChunks();
         turtleChunks.clear();
         computerTracker.clear();
+        encodedTurtles.clear();
+        dirtyTurtles.clear();
         // DON'T clear remoteManagementStates - merge with existing data to preserve any runtime state
 
-        if (nbt.contains("turtleStates")) {
-            NbtList turtleStatesNbt = nbt.getList("turtleStates", 10);
-            for (int i = 0; i < turtleStatesNbt.size(); i++) {
-                NbtCompound stateData = turtleStatesNbt.getCompound(i);
-                try {
-                    UUID turtleId = UUID.fromString(stateData.getString("uuid"));
-                    ChunkPos lastChunkPos = null;
-                    int fuelLevel = -1;
-                    boolean wakeOnWorldLoad = false;
-                    
-                    // Handle both old format (with complex data) and new format (essential only)
-                    if (stateData.contains("lastChunkX") && stateData.contains("lastChunkZ")) {
-                        lastChunkPos = new ChunkPos(stateData.getInt("lastChunkX"), stateData.getInt("lastChunkZ"));
-                    }
-                    if (stateData.contains("fuelLevel")) {
-                        fuelLevel = stateData.getInt("fuelLevel");
-                    }
-                    if (stateData.contains("wakeOnWorldLoad")) {
-                        wakeOnWorldLoad = stateData.getBoolean("wakeOnWorldLoad");
-                    }
+        dormantRecords = null;
+        decodedOnDemand = 0;
+        long start = System.nanoTime();
 
-                    // Create bootstrap state with essential data including wake preference
-                    ChunkLoaderPeripheral.SavedState bootstrapState = new ChunkLoaderPeripheral.SavedState(
-                        0.0, // radius - will be loaded from turtle's own NBT
-                        lastChunkPos, 
-                        0.0, // fuelDebt - will be loaded from turtle's own NBT
-                        wakeOnWorldLoad, // CRITICAL: Preserve wake preference!
-                        false, // randomTickEnabled - will be loaded from turtle's own NBT
-                        fuelLevel
-                    );
-
-                    // Track turtle for bootstrap purposes
-                    turtleChunks.put(turtleId, ConcurrentHashMap.newKeySet());
-                    restoredTurtleStates.put(turtleId, bootstrapState);
-                    
-                    // CRITICAL: Update remote management state with loaded data
-                    Integer computerIdForState = null;
-                    if (stateData.contains("computerId")) {
-                        computerIdForState = stateData.getInt("computerId");
-                    }
-                    updateRemoteManagementState(turtleId, lastChunkPos, fuelLevel >= 0 ? fuelLevel : 1, wakeOnWorldLoad, computerIdForState);
-                    
-                    // CRITICAL: Restore computer ID mapping if available
-                    if (stateData.contains("computerId")) {
-                        int computerIdFromNbt = stateData.getInt("computerId");
-                        computerTracker.register(computerIdFromNbt, turtleId);
-                        LOGGER.debug("Restored computer ID mapping: UUID {} -> Computer {}", turtleId, computerIdFromNbt);
-                    }
-                    
-                    LOGGER.debug("Restored turtle bootstrap data {}: pos=({},{}), fuel={}, wake={}", 
-                                turtleId, lastChunkPos != null ? lastChunkPos.x : "null", 
-                                lastChunkPos != null ? lastChunkPos.z : "null", fuelLevel, wakeOnWorldLoad);
+        DormantTurtleIndex index = Config.LAZY_TURTLE_RECORDS ? TurtleRecordTable.openIndex(nbt) : null;
+        if (index != null) {
+            // Turtles waking on load are needed right away; the rest stay encoded until something asks
+            index.takeWaking(this::restoreDecodedRecord);
+            if (index.remaining() > 0) {
+                dormantRecords = index;
+            }
+        } else {
+            // Handles both the columnar format and the legacy list of compounds
+            for (TurtleRecordTable.Record record : TurtleRecordTable.read(nbt)) {
+                try {
+                    restoreRecord(record);
+                    dirtyTurtles.add(record.turtleId); // Re-encode on the next save
                 } catch (Exception e) {
                     LOGGER.error("Failed to restore turtle bootstrap data from NBT.", e);
                 }
             }
         }
-
+        long elapsed = System.nanoTime() - start;
 
         // Count how many turtles should wake on world load
-        int totalCount = restoredTurtleStates.size();
+        int undecoded = dormantRecords != null ? dormantRecords.remaining() : 0;
+        int totalCount = restoredTurtleStates.size() + undecoded;
         int toWakeCount = (int) restoredTurtleStates.values().stream()
             .filter(state -> state.wakeOnWorldLoad)
             .count();
         
-        LOGGER.info("Deserialized {} turtle bootstrap records from NBT ({} to wake on world load)", 
-                   totalCount, toWakeCount);
+        LOGGER.info("Deserialized {} turtle bootstrap records from NBT in {} ms ({} to wake on world load, {} left encoded)", 
+                   totalCount, elapsed / 1_000_000, toWakeCount, undecoded);
         LOGGER.info("Restored computer ID mappings for {} computers with {} total UUIDs", 
                    computerTracker.getAllComputerIds().size(), computerTracker.getStats().get("totalUUIDs"));
         return new DeserializationResult(totalCount, toWakeCount);
     }
 
+    /**
+     * Put one saved record into the tracking maps
+     */
+    private void restoreRecord(TurtleRecordTable.Record record) {
+        UUID turtleId = record.turtleId;
+        ChunkPos lastChunkPos = record.position;
+        int fuelLevel = record.fuelLevel;
+        boolean wakeOnWorldLoad = record.wakeOnWorldLoad;
+
+        // Create bootstrap state with essential data including wake preference
+        ChunkLoaderPeripheral.SavedState bootstrapState = new ChunkLoaderPeripheral.SavedState(
+            0.0, // radius - will be loaded from turtle's own NBT
+            lastChunkPos, 
+            0.0, // fuelDebt - will be loaded from turtle's own NBT
+            wakeOnWorldLoad, // CRITICAL: Preserve wake preference!
+            false, // randomTickEnabled - will be loaded from turtle's own NBT
+            fuelLevel
+        );
+
+        // Track turtle for bootstrap purposes
+        turtleChunks.put(turtleId, new LongOpenHashSet());
+        restoredTurtleStates.put(turtleId, bootstrapState);
+        
+        // CRITICAL: Update remote management state with loaded data
+        updateRemoteManagementState(turtleId, lastChunkPos, fuelLevel >= 0 ? fuelLevel : 1, wakeOnWorldLoad, record.computerId);
+        
+        // CRITICAL: Restore computer ID mapping if available
+        if (record.computerId != null) {
+            computerTracker.register(record.computerId, turtleId);
+            LOGGER.debug("Restored computer ID mapping: UUID {} -> Computer {}", turtleId, record.computerId);
+        }
+        
+        LOGGER.debug("Restored turtle bootstrap data {}: pos=({},{}), fuel={}, wake={}", 
+                    turtleId, lastChunkPos != null ? lastChunkPos.x : "null", 
+                    lastChunkPos != null ? lastChunkPos.z : "null", fuelLevel, wakeOnWorldLoad);
+    }
+
+    /**
+     * Restore a record taken from the dormant index. It is saved back unchanged,
+     * so it seeds the encode cache and doesn't count as a state change.
+     */
+    private void restoreDecodedRecord(TurtleRecordTable.Record record) {
+        UUID turtleId = record.turtleId;
+        restoredTurtleStates.put(turtleId, new ChunkLoaderPeripheral.SavedState(
+            0.0, record.position, 0.0, record.wakeOnWorldLoad, false, record.fuelLevel));
+        RemoteManagementState current = remoteManagementStates.get(turtleId);
+        int fuelLevel = record.fuelLevel >= 0 ? record.fuelLevel : 1;
+        remoteManagementStates.put(turtleId, new RemoteManagementState(record.position, fuelLevel, record.wakeOnWorldLoad,
+                                                                       record.computerId, current != null ? current.radiusOverride : null));
+        if (record.computerId != null) {
+            computerTracker.register(record.computerId, turtleId);
+        }
+        encodedTurtles.put(turtleId, record);
+        // Last, so ensureResident's lock-free check only sees the turtle once the rest is in place
+        turtleChunks.putIfAbsent(turtleId, new LongOpenHashSet());
+    }
+
+    /**
+     * Bring a turtle's state onto the heap if it is still an undecoded saved record or parked.
+     * Every lookup by UUID goes through here first, including per-tick updates from active turtles,
+     * so turtles already tracked on the heap return before touching the lock or the index.
+     */
+    private void ensureResident(UUID turtleId) {
+        if (turtleChunks.containsKey(turtleId)) {
+            return; // Tracked turtles are neither undecoded nor parked
+        }
+        if (dormantRecords == null && parkedTurtles.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            DormantTurtleIndex index = dormantRecords;
+            if (index != null) {
+                TurtleRecordTable.Record record = index.take(turtleId);
+                if (record != null) {
+                    restoreDecodedRecord(record);
+                    decodedOnDemand++;
+                    releaseIfDrained(index);
+                    return;
+                }
+            }
+            RemoteManagementState parked = parkedTurtles.take(turtleId);
+            if (parked != null) {
+                unpark(turtleId, parked);
+            }
+        }
+    }
+
+    /**
+     * Bring every dormant turtle belonging to a computer onto the heap
+     */
+    private synchronized void makeResidentForComputer(int computerId) {
+        DormantTurtleIndex index = dormantRecords;
+        if (index != null) {
+            index.takeForComputer(computerId, record -> {
+                restoreDecodedRecord(record);
+                decodedOnDemand++;
+            });
+            releaseIfDrained(index);
+        }
+        if (!parkedTurtles.isEmpty()) {
+            parkedTurtles.takeForComputer(computerId, this::unpark);
+        }
+    }
+
+    /**
+     * Bring every dormant turtle onto the heap
+     */
+    private synchronized void makeAllResident() {
+        DormantTurtleIndex index = dormantRecords;
+        if (index != null) {
+            index.takeAll(record -> {
+                restoreDecodedRecord(record);
+                decodedOnDemand++;
+            });
+            releaseIfDrained(index);
+        }
+        if (!parkedTurtles.isEmpty()) {
+            List<UUID> parkedIds = new ArrayList<>(parkedTurtles.size());
+            parkedTurtles.forEachId(parkedIds::add);
+            for (UUID turtleId : parkedIds) {
+                unpark(turtleId, parkedTurtles.take(turtleId));
+            }
+        }
+    }
+
+    /**
+     * Move an unloaded turtle's state off the heap into the dormant store.
+     * Only turtles with nothing loaded, a known position and no bootstrap in flight are parked;
+     * the next lookup by UUID brings them back. Saving a parked turtle reuses what was stored.
+     */
+    public synchronized void parkTurtle(UUID turtleId) {
+        if (released || ChunkLoaderRegistry.getPeripheral(turtleId) != null || pendingBootstraps.containsKey(turtleId)) {
+            return;
+        }
+        LongOpenHashSet chunks = turtleChunks.get(turtleId);
+        RemoteManagementState current = remoteManagementStates.get(turtleId);
+        if (chunks == null || !chunks.isEmpty() || current == null || current.lastKnownPosition == null) {
+            return;
+        }
+        // Park the record the next save would write, so it can be saved straight from the store
+        TurtleRecordTable.Record record = encodeTurtle(turtleId, false);
+        parkedTurtles.put(turtleId, new RemoteManagementState(record.position, record.fuelLevel, record.wakeOnWorldLoad,
+                                                              record.computerId, current.radiusOverride));
+
+        // First, so lock-free lookups stop treating the turtle as resident and wait for the lock instead
+        turtleChunks.remove(turtleId);
+        remoteManagementStates.remove(turtleId);
+        restoredTurtleStates.remove(turtleId);
+        encodedTurtles.remove(turtleId);
+        dirtyTurtles.remove(turtleId);
+        turtleLoadLevels.remove(turtleId);
+        randomTickTurtles.remove(turtleId);
+        computerTracker.remove(turtleId);
+        LOGGER.debug("Parked unloaded turtle {} in the dormant store", turtleId);
+    }
+
+    /**
+     * Put a parked turtle back into the tracking maps; its bootstrap state is rebuilt from the stored record
+     */
+    private void unpark(UUID turtleId, RemoteManagementState parked) {
+        remoteManagementStates.put(turtleId, parked);
+        restoredTurtleStates.put(turtleId, parked.toSavedState());
+        if (parked.computerId != null) {
+            computerTracker.register(parked.computerId, turtleId);
+        }
+        encodedTurtles.put(turtleId, new TurtleRecordTable.Record(
+            turtleId, parked.lastKnownPosition, parked.lastKnownFuel, parked.wakeOnWorldLoad, parked.computerId));
+        // Last, so ensureResident's lock-free check only sees the turtle once the rest is in place
+        turtleChunks.putIfAbsent(turtleId, new LongOpenHashSet());
+    }
+
+    /**
+     * Get dormant store counters for debugging
+     */
+    public synchronized Map<String, Object> getDormantStoreStats() {
+        return parkedTurtles.getStats();
+    }
+
+    private void releaseIfDrained(DormantTurtleIndex index) {
+        if (index.remaining() == 0) {
+            dormantRecords = null; // Let the loaded arrays be collected
+        }
+    }
+
     /**
      * Bootstrap a specific turtle on-demand for remote operations
-     * Returns BootstrapResult with success status and error information
+     * Never blocks: the turtle's chunk is loaded on the server thread and the returned future
+     * completes when its peripheral registers, or with a timeout after BOOTSTRAP_TIMEOUT_TICKS.
+     * Concurrent requests for the same turtle share one future.
      */
-    public synchronized BootstrapResult bootstrapTurtleOnDemand(UUID turtleId) {
+    public CompletableFuture<BootstrapResult> bootstrapTurtleOnDemand(UUID turtleId) {
         LOGGER.info("Attempting on-demand bootstrap for turtle {}", turtleId);
         
         // Check if turtle is already active
         if (ChunkLoaderRegistry.getPeripheral(turtleId) != null) {
             LOGGER.debug("Turtle {} is already active, no bootstrap needed", turtleId);
-            return BootstrapResult.alreadyActive();
+            return CompletableFuture.completedFuture(BootstrapResult.alreadyActive());
         }
         
-        // Debug: Show what data we have for this turtle
-        boolean inTurtleChunks = turtleChunks.containsKey(turtleId);
-        boolean inRemoteState = remoteManagementStates.containsKey(turtleId);
-        boolean inRestoredStates = restoredTurtleStates.containsKey(turtleId);
-        LOGGER.info("Turtle {} tracking status: chunks={}, remote={}, restored={}", 
-                   turtleId, inTurtleChunks, inRemoteState, inRestoredStates);
-        
-        // Check if we have cached state for this turtle
-        ChunkLoaderPeripheral.SavedState cachedState = getCachedTurtleState(turtleId);
-        if (cachedState == null) {
-            LOGGER.info("No cached state available for turtle {}", turtleId);
+        PendingBootstrap pending;
+        ChunkPos chunkPos;
+        synchronized (this) {
+            PendingBootstrap existing = pendingBootstraps.get(turtleId);
+            if (existing != null) {
+                return existing.future;
+            }
+
+            // Check if we have cached state for this turtle
+            ChunkLoaderPeripheral.SavedState cachedState = getCachedTurtleState(turtleId);
+            if (cachedState == null) {
+                LOGGER.warn("Cannot bootstrap turtle {} - no cached state available (chunks={}, remote={})", 
+                           turtleId, turtleChunks.containsKey(turtleId), remoteManagementStates.containsKey(turtleId));
+                return CompletableFuture.completedFuture(BootstrapResult.noData());
+            }
+            
+            if (cachedState.lastChunkPos == null) {
+                LOGGER.warn("Cannot bootstrap turtle {} - no position available. State: radius={}, fuel={}, wake={}", 
+                           turtleId, cachedState.radius, cachedState.fuelLevel, cachedState.wakeOnWorldLoad);
+                return CompletableFuture.completedFuture(BootstrapResult.noData());
+            }
+
+            // Note: We don't check fuel here - just load the turtle and let it handle its own fuel logic
+            // The turtle will disable chunk loading itself if it runs out of fuel
+            chunkPos = cachedState.lastChunkPos;
+            pending = new PendingBootstrap(currentTick + BOOTSTRAP_TIMEOUT_TICKS);
+            pendingBootstraps.put(turtleId, pending);
+            // Load the turtle's chunk to wake it up; the end-of-tick commit applies it on the server thread
+            holdForWake(turtleId, chunkPos.toLong());
         }
-        
-        if (cachedState == null) {
-            LOGGER.warn("Cannot bootstrap turtle {} - no cached state available (chunks={}, remote={})", 
-                       turtleId, inTurtleChunks, inRemoteState);
-            return BootstrapResult.noData();
+
+        LOGGER.info("Bootstrapping turtle {} at chunk {}", turtleId, chunkPos);
+
+        // The peripheral may have registered before the request was recorded
+        if (ChunkLoaderRegistry.getPeripheral(turtleId) != null) {
+            releaseWakeHold(turtleId);
+            completeBootstrap(turtleId, BootstrapResult.success());
         }
-        
-        if (cachedState.lastChunkPos == null) {
-            LOGGER.warn("Cannot bootstrap turtle {} - no position available. State: radius={}, fuel={}, wake={}", 
-                       turtleId, cachedState.radius, cachedState.fuelLevel, cachedState.wakeOnWorldLoad);
-            return BootstrapResult.noData();
+        return pending.future;
+    }
+
+    /**
+     * Called when a turtle peripheral registers, completing any bootstrap waiting for it
+     * and dropping the claim that woke it
+     */
+    public static void onPeripheralRegistered(World world, UUID turtleId) {
+        ChunkManager manager = MANAGERS.get(world);
+        if (manager == null) {
+            return;
         }
-        
-        // Note: We don't check fuel here - just load the turtle and let it handle its own fuel logic
-        // The turtle will disable chunk loading itself if it runs out of fuel
-        
-        LOGGER.info("Bootstrapping turtle {} at chunk {} with {} fuel", 
-                   turtleId, cachedState.lastChunkPos, cachedState.fuelLevel);
-        
-        // No need to create temporary bootstrap data - we have it in remoteManagementStates
-        
-        // Force-load the turtle's chunk to wake it up
-        world.setChunkForced(cachedState.lastChunkPos.x, cachedState.lastChunkPos.z, true);
-        LOGGER.info("Force-loaded chunk {} to bootstrap turtle {}", cachedState.lastChunkPos, turtleId);
-        
-        // Wait for turtle to initialize (give it a few server ticks)
-        final int MAX_WAIT_TICKS = 20; // Increased from 10 to 20 for 1000ms total
-        final int TICK_DELAY_MS = 50; // 20 ticks per second
-        
-        for (int i = 0; i < MAX_WAIT_TICKS; i++) {
-            try {
-                Thread.sleep(TICK_DELAY_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-            
-            // Check if turtle peripheral is now available
-            ChunkLoaderPeripheral peripheral = ChunkLoaderRegistry.getPeripheral(turtleId);
-            if (peripheral != null) {
-                LOGGER.info("Successfully bootstrapped turtle {} after {}ms", turtleId, i * TICK_DELAY_MS);
-                
-                // Additional check: verify the turtle has the expected radius override applied
-                Double expectedOverride = getRadiusOverride(turtleId);
-                if (expectedOverride != null) {
-                    double currentRadius = peripheral.getRadius();
-                    if (Math.abs(currentRadius - expectedOverride) < 0.001) {
-                        LOGGER.info("Bootstrap confirmed: turtle {} has expected radius {} from override", turtleId, expectedOverride);
-                    } else {
-                        LOGGER.debug("Bootstrap: turtle {} found but radius {} doesn't match override {} yet", 
-                                   turtleId, currentRadius, expectedOverride);
-                    }
+        if (!manager.wakeHolds.isEmpty()) {
+            manager.releaseWakeHold(turtleId);
+        }
+        if (!manager.pendingBootstraps.isEmpty()) {
+            manager.completeBootstrap(turtleId, BootstrapResult.success());
+        }
+    }
+
+    private void completeBootstrap(UUID turtleId, BootstrapResult result) {
+        PendingBootstrap pending;
+        synchronized (this) {
+            pending = pendingBootstraps.remove(turtleId);
+        }
+        if (pending != null) {
+            LOGGER.info("Bootstrap for turtle {} finished: {}", turtleId, result.errorCode);
+            pending.future.complete(result);
+        }
+    }
+
+    /**
+     * Time out bootstraps whose turtle did not register in time. Runs at the end of the world tick.
+     */
+    private void expireBootstraps() {
+        if (pendingBootstraps.isEmpty()) {
+            return;
+        }
+        List<UUID> expired = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<UUID, PendingBootstrap> entry : pendingBootstraps.entrySet()) {
+                if (entry.getValue().deadlineTick <= currentTick) {
+                    expired.add(entry.getKey());
                 }
-                
-                return BootstrapResult.success();
             }
         }
-        
-        // Final check: even if peripheral isn't in registry, check if override was applied successfully
-        // This handles cases where peripheral exists but registry timing is off
-        Double pendingOverride = getRadiusOverride(turtleId);
-        if (pendingOverride != null) {
-            LOGGER.info("Bootstrap timeout for turtle {} but override {} is still pending - considering success", 
-                       turtleId, pendingOverride);
-            // Don't unforce the chunk - let the confirmation mechanism handle it
-            return BootstrapResult.success();
+        for (UUID turtleId : expired) {
+            // A radius override still waiting to be applied means the turtle will pick it up once it loads
+            Double pendingOverride = getRadiusOverride(turtleId);
+            if (pendingOverride != null) {
+                LOGGER.info("Bootstrap timeout for turtle {} but override {} is still pending - considering success", 
+                           turtleId, pendingOverride);
+                completeBootstrap(turtleId, BootstrapResult.success());
+            } else {
+                LOGGER.info("Bootstrap timeout for turtle {} - peripheral not available after {} ticks (turtle may still be loading)", 
+                           turtleId, BOOTSTRAP_TIMEOUT_TICKS);
+                completeBootstrap(turtleId, BootstrapResult.timeout());
+            }
+        }
+    }
+
+    /**
+     * On-demand bootstrap waiting for its turtle's peripheral to register
+     */
+    private static class PendingBootstrap {
+        final CompletableFuture<BootstrapResult> future = new CompletableFuture<>();
+        final long deadlineTick;
+
+        PendingBootstrap(long deadlineTick) {
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    /**
+     * Chunk claimed to wake a turtle, the tick the claim lapses regardless,
+     * and the tick the chunk was first seen loaded
+     */
+    private static class WakeHold {
+        final long chunk;
+        final long deadlineTick;
+        long loadedTick = -1; // -1 until the chunk has loaded
+
+        WakeHold(long chunk, long deadlineTick) {
+            this.chunk = chunk;
+            this.deadlineTick = deadlineTick;
         }
-        
-        LOGGER.info("Bootstrap timeout for turtle {} - peripheral not available after {}ms (turtle may still be loading)", 
-                   turtleId, MAX_WAIT_TICKS * TICK_DELAY_MS);
-        return BootstrapResult.timeout();
     }
 
     /**
@@ -1190,7 +2232,12 @@ public class ChunkManager {
      * Register a UUID for a specific computer ID
      */
     public void registerUUIDForComputer(int computerId, UUID turtleId) {
+        ensureResident(turtleId);
+        if (Objects.equals(computerTracker.getComputerForUUID(turtleId), computerId)) {
+            return;
+        }
         computerTracker.register(computerId, turtleId);
+        markDirty(turtleId);
         LOGGER.debug("Registered UUID {} for computer ID {}", turtleId, computerId);
     }
 
@@ -1198,6 +2245,7 @@ public class ChunkManager {
      * Get all UUIDs associated with a computer ID
      */
     public Set<UUID> getUUIDsForComputer(int computerId) {
+        makeResidentForComputer(computerId);
         return computerTracker.getUUIDsForComputer(computerId);
     }
 
@@ -1205,6 +2253,7 @@ public class ChunkManager {
      * Get computer ID for a UUID
      */
     public Integer getComputerIdForUUID(UUID turtleId) {
+        ensureResident(turtleId);
         return computerTracker.getComputerForUUID(turtleId);
     }
 
@@ -1213,6 +2262,7 @@ public class ChunkManager {
      * Only call this when the turtle is confirmed loaded and active
      */
     public void validateUUIDsForComputer(int computerId, Set<UUID> currentlyEquippedUUIDs) {
+        makeResidentForComputer(computerId);
         Set<UUID> orphanedUUIDs = computerTracker.validateAndCleanup(computerId, currentlyEquippedUUIDs);
         
         for (UUID orphanedUUID : orphanedUUIDs) {
@@ -1224,8 +2274,16 @@ public class ChunkManager {
     /**
      * Get all computer IDs that have registered UUIDs
      */
-    public Set<Integer> getAllComputerIds() {
-        return computerTracker.getAllComputerIds();
+    public synchronized Set<Integer> getAllComputerIds() {
+        if (dormantRecords == null && parkedTurtles.isEmpty()) {
+            return computerTracker.getAllComputerIds();
+        }
+        Set<Integer> computerIds = new HashSet<>(computerTracker.getAllComputerIds());
+        if (dormantRecords != null) {
+            dormantRecords.forEachRemainingComputerId(computerIds::add);
+        }
+        parkedTurtles.forEachComputerId(computerIds::add);
+        return computerIds;
     }
 
     /**
@@ -1,6 +1,8 @@
 package ccchunkloader.niko.ink;
 
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
@@ -9,18 +11,55 @@ import net.minecraft.world.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Persistent state wrapper for ChunkManager serialization.
  * Stores complete ChunkManager state per world dimension.
  * Ensures no turtle is ever lost - even those with radius=0.
+ * Once attached to the world's ChunkManager, the data is only rewritten when the
+ * manager's state version has moved past the version last saved.
+ * Explicit saves snapshot the records on the server thread and encode them on a shared
+ * background executor; vanilla's save waits for a pending encode before writing the file.
  */
 public class ChunkManagerPersistentState extends PersistentState {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChunkManagerPersistentState.class);
+    // Encodes snapshots off the server thread, one task per world
+    private static final ExecutorService ENCODE_EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), runnable -> {
+            Thread thread = new Thread(runnable, "CCChunkloader-Save");
+            thread.setDaemon(true);
+            return thread;
+        });
 
-    private NbtCompound chunkManagerData = new NbtCompound();
+    // Replaced by the encoder thread when an async save completes
+    private volatile NbtCompound chunkManagerData = new NbtCompound();
+    // Encode started by saveAsyncIfChanged that hasn't been waited on yet (server thread only)
+    private CompletableFuture<Void> pendingEncode;
+    // Time the last save spent copying records under the ChunkManager lock, and encoding them
+    private volatile long lastSnapshotNanos = 0;
+    private volatile long lastEncodeNanos = 0;
+    // Live manager refreshed from on save, null until the world has loaded
+    private ChunkManager source;
+    // ChunkManager state version chunkManagerData was taken at
+    private long savedVersion = -1;
+    // Vanilla saves that rewrote the file vs. found nothing changed
+    private long savesWritten = 0;
+    private long savesSkipped = 0;
 
     @Override
     public NbtCompound writeNbt(NbtCompound nbt) {
+        awaitPendingEncode();
+        if (hasUnsavedChanges()) {
+            refreshFrom(source);
+        }
         if (!chunkManagerData.isEmpty()) {
             nbt.put("chunkManagerData", chunkManagerData);
         }
@@ -44,10 +83,125 @@ public class ChunkManagerPersistentState extends PersistentState {
         ChunkManagerPersistentState state = world.getPersistentStateManager()
             .getOrCreate(ChunkManagerPersistentState::createFromNbt, ChunkManagerPersistentState::new, modId);
 
-        state.markDirty(); // Ensure it gets saved
         return state;
     }
 
+    /**
+     * Track a world's ChunkManager; its current state counts as saved
+     */
+    public void attach(ChunkManager manager) {
+        this.source = manager;
+        // Data in an older format is left unsaved so the next save migrates it
+        this.savedVersion = hasData() && !TurtleRecordTable.isCurrentFormat(chunkManagerData) ? -1 : manager.getStateVersion();
+    }
+
+    @Override
+    public boolean isDirty() {
+        return super.isDirty() || hasUnsavedChanges();
+    }
+
+    @Override
+    public void save(File file) {
+        if (!isDirty()) {
+            savesSkipped++;
+            return;
+        }
+        // Same write as vanilla's, done here so the journal is only trimmed once it has landed
+        NbtCompound nbt = new NbtCompound();
+        nbt.put("data", writeNbt(new NbtCompound()));
+        NbtHelper.putDataVersion(nbt);
+        try {
+            NbtIo.writeCompressed(nbt, file);
+        } catch (IOException e) {
+            // Keep the journal and let the next save try again
+            LOGGER.error("Could not save turtle states to {}", file, e);
+            savedVersion = -1;
+            return;
+        }
+        savesWritten++;
+        setDirty(false);
+        // A full save just went through, so older journal entries are now redundant
+        if (source != null && !source.isReleased()) {
+            source.getJournal().compact();
+        }
+    }
+
+    /**
+     * Save the manager if it changed since the last save.
+     * Records are snapshotted now on the calling (server) thread and encoded on the save executor.
+     * @return future completing with true once the new data is in place, or false at once if nothing changed
+     */
+    public CompletableFuture<Boolean> saveAsyncIfChanged(ChunkManager manager) {
+        if (manager == source && manager.getStateVersion() == savedVersion) {
+            return CompletableFuture.completedFuture(false);
+        }
+        awaitPendingEncode();
+
+        long start = System.nanoTime();
+        ChunkManager.Snapshot snapshot = manager.snapshotRecords();
+        lastSnapshotNanos = System.nanoTime() - start;
+        this.source = manager;
+        this.savedVersion = snapshot.version;
+        markDirty();
+
+        CompletableFuture<Void> encode = CompletableFuture.runAsync(() -> chunkManagerData = encode(snapshot), ENCODE_EXECUTOR);
+        pendingEncode = encode;
+        return encode.thenApply(ignored -> true);
+    }
+
+    /**
+     * Block until an encode started by saveAsyncIfChanged has finished
+     */
+    private void awaitPendingEncode() {
+        if (pendingEncode == null) {
+            return;
+        }
+        try {
+            pendingEncode.join();
+        } catch (CompletionException e) {
+            // Keep the previous data and let the next save try again
+            LOGGER.error("Failed to encode turtle states", e.getCause());
+            savedVersion = -1;
+        }
+        pendingEncode = null;
+    }
+
+    private NbtCompound encode(ChunkManager.Snapshot snapshot) {
+        long start = System.nanoTime();
+        NbtCompound data = new NbtCompound();
+        TurtleRecordTable.write(data, snapshot.records);
+        lastEncodeNanos = System.nanoTime() - start;
+        return data;
+    }
+
+    private boolean hasUnsavedChanges() {
+        return source != null && !source.isReleased() && source.getStateVersion() != savedVersion;
+    }
+
+    private void refreshFrom(ChunkManager manager) {
+        long start = System.nanoTime();
+        ChunkManager.Snapshot snapshot = manager.snapshotRecords();
+        lastSnapshotNanos = System.nanoTime() - start;
+        this.chunkManagerData = encode(snapshot);
+        this.source = manager;
+        this.savedVersion = snapshot.version;
+        markDirty();
+    }
+
+    /**
+     * Get save counters for debugging
+     */
+    public Map<String, Object> getSaveStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("written", savesWritten);
+        stats.put("skipped", savesSkipped);
+        stats.put("savedVersion", savedVersion);
+        stats.put("currentVersion", source != null ? source.getStateVersion() : savedVersion);
+        stats.put("snapshotNanos", lastSnapshotNanos);
+        stats.put("encodeNanos", lastEncodeNanos);
+        return stats;
+    }
+
     /**
      * Save ChunkManager state data
      */
@@ -60,6 +214,7 @@ public class ChunkManagerPersistentState extends PersistentState {
      * Get saved ChunkManager state data
      */
     public NbtCompound getChunkManagerData() {
+        awaitPendingEncode();
         return chunkManagerData;
     }
 
@@ -0,0 +1,128 @@
+package ccchunkloader.niko.ink;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.Arrays;
+
+/**
+ * Positions of randomly tickable blocks and fluids in each section of one chunk.
+ * Positions are packed the same way the orchestrator draws them: x | z << 4 | y << 8.
+ * Built by scanning a section the first time it is needed, then kept current
+ * incrementally from block changes that flip a position's tickability.
+ * Server thread only.
+ */
+public class ChunkTickables {
+    private static final short[] EMPTY = new short[0];
+
+    private final WorldChunk chunk;
+    private final short[][] positions; // Tickable positions per section, first counts[i] entries valid
+    private final int[] counts;
+    private final boolean[] built; // Sections scanned since this cache was created
+
+    public ChunkTickables(WorldChunk chunk) {
+        int sectionCount = chunk.getSectionArray().length;
+        this.chunk = chunk;
+        this.positions = new short[sectionCount][];
+        this.counts = new int[sectionCount];
+        this.built = new boolean[sectionCount];
+        Arrays.fill(positions, EMPTY);
+    }
+
+    /**
+     * Same test ChunkSection uses to count random tickable states
+     */
+    public static boolean isTickable(BlockState state) {
+        return state.hasRandomTicks() || state.getFluidState().hasRandomTicks();
+    }
+
+    /**
+     * Check this cache describes the given chunk instance; a reloaded chunk needs a new one
+     */
+    public boolean isFor(WorldChunk chunk) {
+        return this.chunk == chunk;
+    }
+
+    /**
+     * Number of tickable positions in a section, scanning it first if needed.
+     * A section vanilla reports as tickable but that is empty here is rescanned,
+     * in case a change reached it without going through WorldChunk.setBlockState.
+     */
+    public int prepareSection(int sectionIndex, ChunkSection section) {
+        if (!built[sectionIndex] || (counts[sectionIndex] == 0 && section.hasRandomTicks())) {
+            rebuildSection(sectionIndex, section);
+        }
+        return counts[sectionIndex];
+    }
+
+    /**
+     * Number of tickable positions in a section as currently cached
+     */
+    public int getCount(int sectionIndex) {
+        return counts[sectionIndex];
+    }
+
+    /**
+     * Packed local position of the n-th tickable entry of a section
+     */
+    public int getPosition(int sectionIndex, int n) {
+        return positions[sectionIndex][n];
+    }
+
+    /**
+     * Record a block change whose tickability flipped
+     */
+    public void onBlockChanged(BlockPos pos, boolean tickable) {
+        int sectionIndex = chunk.getSectionIndex(pos.getY());
+        if (sectionIndex < 0 || sectionIndex >= counts.length || !built[sectionIndex]) {
+            return; // Scanned with the change included when first needed
+        }
+        short local = (short) ((pos.getX() & 15) | (pos.getZ() & 15) << 4 | (pos.getY() & 15) << 8);
+        short[] entries = positions[sectionIndex];
+        int count = counts[sectionIndex];
+        int index = indexOf(entries, count, local);
+
+        if (tickable && index < 0) {
+            if (count == entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(4, count * 2));
+                positions[sectionIndex] = entries;
+            }
+            entries[count] = local;
+            counts[sectionIndex] = count + 1;
+        } else if (!tickable && index >= 0) {
+            // Swap-remove, order doesn't matter for uniform sampling
+            entries[index] = entries[count - 1];
+            counts[sectionIndex] = count - 1;
+        }
+    }
+
+    private void rebuildSection(int sectionIndex, ChunkSection section) {
+        built[sectionIndex] = true;
+        if (section == null || section.isEmpty() || !section.hasRandomTicks()) {
+            positions[sectionIndex] = EMPTY;
+            counts[sectionIndex] = 0;
+            return;
+        }
+
+        short[] scratch = new short[4096];
+        int count = 0;
+        for (int local = 0; local < 4096; local++) {
+            if (isTickable(section.getBlockState(local & 15, (local >> 8) & 15, (local >> 4) & 15))) {
+                scratch[count++] = (short) local;
+            }
+        }
+        positions[sectionIndex] = Arrays.copyOf(scratch, count);
+        counts[sectionIndex] = count;
+    }
+
+    private static int indexOf(short[] entries, int count, short local) {
+        for (int i = 0; i < count; i++) {
+            if (entries[i] == local) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -6,6 +6,7 @@ import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
+import net.minecraft.util.math.ChunkPos;
 
 import java.util.Map;
 import java.util.Set;
@@ -85,6 +86,10 @@ public class ChunkloaderCommand {
                 .then(literal("stats").executes(ctx -> {
                     showTrackingStats(ctx.getSource());
                     return 1;
+                }))
+                .then(literal("randomticks").executes(ctx -> {
+                    showRandomTickStats(ctx.getSource());
+                    return 1;
                 })))
             .then(literal("get").then(argument("key", StringArgumentType.word()).executes(ctx -> {
                 String key = StringArgumentType.getString(ctx, "key");
@@ -104,6 +109,42 @@ public class ChunkloaderCommand {
                     case "RANDOM_TICK_FUEL_MULTIPLIER":
                         ctx.getSource().sendFeedback(() -> Text.literal("RANDOM_TICK_FUEL_MULTIPLIER: " + Config.RANDOM_TICK_FUEL_MULTIPLIER), false);
                         break;
+                    case "UNFORCE_GRACE_TICKS":
+                        ctx.getSource().sendFeedback(() -> Text.literal("UNFORCE_GRACE_TICKS: " + Config.UNFORCE_GRACE_TICKS), false);
+                        break;
+                    case "RANDOM_TICK_BUDGET_NANOS":
+                        ctx.getSource().sendFeedback(() -> Text.literal("RANDOM_TICK_BUDGET_NANOS: " + Config.RANDOM_TICK_BUDGET_NANOS), false);
+                        break;
+                    case "RANDOM_TICK_TARGET_MSPT":
+                        ctx.getSource().sendFeedback(() -> Text.literal("RANDOM_TICK_TARGET_MSPT: " + Config.RANDOM_TICK_TARGET_MSPT), false);
+                        break;
+                    case "RANDOM_TICK_DEBT_CAP":
+                        ctx.getSource().sendFeedback(() -> Text.literal("RANDOM_TICK_DEBT_CAP: " + Config.RANDOM_TICK_DEBT_CAP), false);
+                        break;
+                    case "JOURNAL_COMMIT_TICKS":
+                        ctx.getSource().sendFeedback(() -> Text.literal("JOURNAL_COMMIT_TICKS: " + Config.JOURNAL_COMMIT_TICKS), false);
+                        break;
+                    case "LAZY_TURTLE_RECORDS":
+                        ctx.getSource().sendFeedback(() -> Text.literal("LAZY_TURTLE_RECORDS: " + Config.LAZY_TURTLE_RECORDS), false);
+                        break;
+                    case "WAKE_MAX_PER_TICK":
+                        ctx.getSource().sendFeedback(() -> Text.literal("WAKE_MAX_PER_TICK: " + Config.WAKE_MAX_PER_TICK), false);
+                        break;
+                    case "WAKE_BUDGET_NANOS":
+                        ctx.getSource().sendFeedback(() -> Text.literal("WAKE_BUDGET_NANOS: " + Config.WAKE_BUDGET_NANOS), false);
+                        break;
+                    case "WAKE_HOLD_MAX_TICKS":
+                        ctx.getSource().sendFeedback(() -> Text.literal("WAKE_HOLD_MAX_TICKS: " + Config.WAKE_HOLD_MAX_TICKS), false);
+                        break;
+                    case "LOADING_BACKEND":
+                        ctx.getSource().sendFeedback(() -> Text.literal("LOADING_BACKEND: " + Config.LOADING_BACKEND), false);
+                        break;
+                    case "BLOCK_LOAD_FUEL_MULTIPLIER":
+                        ctx.getSource().sendFeedback(() -> Text.literal("BLOCK_LOAD_FUEL_MULTIPLIER: " + Config.BLOCK_LOAD_FUEL_MULTIPLIER), false);
+                        break;
+                    case "BORDER_LOAD_FUEL_MULTIPLIER":
+                        ctx.getSource().sendFeedback(() -> Text.literal("BORDER_LOAD_FUEL_MULTIPLIER: " + Config.BORDER_LOAD_FUEL_MULTIPLIER), false);
+                        break;
                     default:
                         ctx.getSource().sendError(Text.literal("Unknown config key: " + key));
                         break;
@@ -124,12 +165,57 @@ public class ChunkloaderCommand {
                                 break;
                             case "BASE_FUEL_COST_PER_CHUNK":
                                 Config.BASE_FUEL_COST_PER_CHUNK = Double.parseDouble(value);
+                                ChunkFootprint.invalidateAll(); // Templates cache fuel costs
                                 break;
                             case "DISTANCE_MULTIPLIER":
                                 Config.DISTANCE_MULTIPLIER = Double.parseDouble(value);
+                                ChunkFootprint.invalidateAll();
                                 break;
                             case "RANDOM_TICK_FUEL_MULTIPLIER":
                                 Config.RANDOM_TICK_FUEL_MULTIPLIER = Double.parseDouble(value);
+                                ChunkFootprint.invalidateAll();
+                                break;
+                            case "UNFORCE_GRACE_TICKS":
+                                Config.UNFORCE_GRACE_TICKS = Math.max(0, Integer.parseInt(value));
+                                break;
+                            case "RANDOM_TICK_BUDGET_NANOS":
+                                Config.RANDOM_TICK_BUDGET_NANOS = Math.max(0L, Long.parseLong(value));
+                                break;
+                            case "RANDOM_TICK_TARGET_MSPT":
+                                Config.RANDOM_TICK_TARGET_MSPT = Double.parseDouble(value);
+                                break;
+                            case "RANDOM_TICK_DEBT_CAP":
+                                Config.RANDOM_TICK_DEBT_CAP = Math.max(0, Integer.parseInt(value));
+                                break;
+                            case "JOURNAL_COMMIT_TICKS":
+                                Config.JOURNAL_COMMIT_TICKS = Math.max(1, Integer.parseInt(value));
+                                break;
+                            case "LAZY_TURTLE_RECORDS":
+                                // Applies to worlds loaded after the change
+                                Config.LAZY_TURTLE_RECORDS = Boolean.parseBoolean(value);
+                                break;
+                            case "WAKE_MAX_PER_TICK":
+                                Config.WAKE_MAX_PER_TICK = Math.max(1, Integer.parseInt(value));
+                                break;
+                            case "WAKE_BUDGET_NANOS":
+                                Config.WAKE_BUDGET_NANOS = Math.max(0L, Long.parseLong(value));
+                                break;
+                            case "WAKE_HOLD_MAX_TICKS":
+                                Config.WAKE_HOLD_MAX_TICKS = Math.max(1, Integer.parseInt(value));
+                                break;
+                            case "LOADING_BACKEND":
+                                // Applies to worlds loaded after the change
+                                if (!ChunkLoadingBackend.isValidName(value.toLowerCase())) {
+                                    ctx.getSource().sendError(Text.literal("Invalid backend: " + value + " (expected ticket or forced)"));
+                                    return 0;
+                                }
+                                Config.LOADING_BACKEND = value.toLowerCase();
+                                break;
+                            case "BLOCK_LOAD_FUEL_MULTIPLIER":
+                                Config.BLOCK_LOAD_FUEL_MULTIPLIER = Double.parseDouble(value);
+                                break;
+                            case "BORDER_LOAD_FUEL_MULTIPLIER":
+                                Config.BORDER_LOAD_FUEL_MULTIPLIER = Double.parseDouble(value);
                                 break;
                             default:
                                 ctx.getSource().sendError(Text.literal("Unknown config key: " + key));
@@ -157,6 +243,7 @@ public class ChunkloaderCommand {
         source.sendFeedback(() -> Text.literal("§e/ccchunkloader debug computer <id> §7- Show UUIDs for computer"), false);
         source.sendFeedback(() -> Text.literal("§e/ccchunkloader debug states §7- Show turtle state breakdown"), false);
         source.sendFeedback(() -> Text.literal("§e/ccchunkloader debug stats §7- Show tracking statistics"), false);
+        source.sendFeedback(() -> Text.literal("§e/ccchunkloader debug randomticks §7- Show random tick rates per chunk"), false);
         source.sendFeedback(() -> Text.literal("§7Use §e/ccchunkloader help <command> §7for detailed info"), false);
     }
 
@@ -206,11 +293,23 @@ public class ChunkloaderCommand {
         source.sendFeedback(() -> Text.literal("§7General Settings:"), false);
         source.sendFeedback(() -> Text.literal("§e  MAX_RADIUS: §f" + Config.MAX_RADIUS + " §7(max chunk loading radius)"), false);
         source.sendFeedback(() -> Text.literal("§e  MAX_RANDOM_TICK_RADIUS: §f" + Config.MAX_RANDOM_TICK_RADIUS + " §7(max random tick radius)"), false);
+        source.sendFeedback(() -> Text.literal("§e  UNFORCE_GRACE_TICKS: §f" + Config.UNFORCE_GRACE_TICKS + " §7(ticks a released chunk stays loaded)"), false);
+        source.sendFeedback(() -> Text.literal("§e  RANDOM_TICK_BUDGET_NANOS: §f" + Config.RANDOM_TICK_BUDGET_NANOS + " §7(random tick time per world per tick)"), false);
+        source.sendFeedback(() -> Text.literal("§e  RANDOM_TICK_TARGET_MSPT: §f" + Config.RANDOM_TICK_TARGET_MSPT + " §7(tick time above which random ticks back off)"), false);
+        source.sendFeedback(() -> Text.literal("§e  RANDOM_TICK_DEBT_CAP: §f" + Config.RANDOM_TICK_DEBT_CAP + " §7(missed random tick rounds a chunk can catch up on)"), false);
+        source.sendFeedback(() -> Text.literal("§e  JOURNAL_COMMIT_TICKS: §f" + Config.JOURNAL_COMMIT_TICKS + " §7(ticks between journal flushes to disk)"), false);
+        source.sendFeedback(() -> Text.literal("§e  LAZY_TURTLE_RECORDS: §f" + Config.LAZY_TURTLE_RECORDS + " §7(decode dormant turtle records on demand, applies on world load)"), false);
+        source.sendFeedback(() -> Text.literal("§e  WAKE_MAX_PER_TICK: §f" + Config.WAKE_MAX_PER_TICK + " §7(wake-on-load turtles woken per tick, throttles their chunk loads)"), false);
+        source.sendFeedback(() -> Text.literal("§e  WAKE_BUDGET_NANOS: §f" + Config.WAKE_BUDGET_NANOS + " §7(time per world per tick spent queuing wakes, not loading)"), false);
+        source.sendFeedback(() -> Text.literal("§e  WAKE_HOLD_MAX_TICKS: §f" + Config.WAKE_HOLD_MAX_TICKS + " §7(most ticks a waking turtle's chunk is held while it loads)"), false);
+        source.sendFeedback(() -> Text.literal("§e  LOADING_BACKEND: §f" + Config.LOADING_BACKEND + " §7(ticket or forced, applies on world load)"), false);
         
         source.sendFeedback(() -> Text.literal("§7Fuel Cost Settings:"), false);
         source.sendFeedback(() -> Text.literal("§e  BASE_FUEL_COST_PER_CHUNK: §f" + Config.BASE_FUEL_COST_PER_CHUNK + " §7(fuel per chunk per tick)"), false);
         source.sendFeedback(() -> Text.literal("§e  DISTANCE_MULTIPLIER: §f" + Config.DISTANCE_MULTIPLIER + " §7(distance cost multiplier)"), false);
         source.sendFeedback(() -> Text.literal("§e  RANDOM_TICK_FUEL_MULTIPLIER: §f" + Config.RANDOM_TICK_FUEL_MULTIPLIER + " §7(random tick cost multiplier)"), false);
+        source.sendFeedback(() -> Text.literal("§e  BLOCK_LOAD_FUEL_MULTIPLIER: §f" + Config.BLOCK_LOAD_FUEL_MULTIPLIER + " §7(cost multiplier for block-only loading)"), false);
+        source.sendFeedback(() -> Text.literal("§e  BORDER_LOAD_FUEL_MULTIPLIER: §f" + Config.BORDER_LOAD_FUEL_MULTIPLIER + " §7(cost multiplier for border loading)"), false);
         
         
         source.sendFeedback(() -> Text.literal("§7Use §e/ccchunkloader set <key> <value> §7to change values"), false);
@@ -429,6 +528,58 @@ public class ChunkloaderCommand {
         int activeCount = ChunkLoaderRegistry.getAllPeripherals().size();
         source.sendFeedback(() -> Text.literal("§7Active Peripherals: §f" + activeCount), false);
         
+        // Add end-of-tick force commit counters
+        Map<String, Object> forceStats = manager.getForceCommitStats();
+        source.sendFeedback(() -> Text.literal(""), false);
+        source.sendFeedback(() -> Text.literal("§6Chunk Loading:"), false);
+        source.sendFeedback(() -> Text.literal("§7  Backend: §f" + forceStats.get("backend")), false);
+        source.sendFeedback(() -> Text.literal("§7  Force-Loaded Chunks: §f" + manager.getTotalLoadedChunks()), false);
+        source.sendFeedback(() -> Text.literal("§7  Force Changes Committed: §f" + forceStats.get("committed")), false);
+        source.sendFeedback(() -> Text.literal("§7  Force Changes Coalesced: §f" + forceStats.get("coalesced")), false);
+        source.sendFeedback(() -> Text.literal("§7  Pending This Tick: §f" + forceStats.get("pendingChunks")), false);
+        source.sendFeedback(() -> Text.literal("§7  In Grace Period: §f" + forceStats.get("graceChunks")), false);
+        source.sendFeedback(() -> Text.literal("§7  Grace Expirations: §f" + forceStats.get("graceExpirations")), false);
+        source.sendFeedback(() -> Text.literal("§7  Disk Reloads Prevented: §f" + forceStats.get("reloadsPrevented")), false);
+
+        // Wake-on-load progress
+        Map<String, Object> wakeStats = manager.getWakeStats();
+        source.sendFeedback(() -> Text.literal(""), false);
+        source.sendFeedback(() -> Text.literal("§6Wake On Load:"), false);
+        source.sendFeedback(() -> Text.literal("§7  Woken: §f" + wakeStats.get("woken") + "§7/§f" + wakeStats.get("scheduled") + " §7(" + wakeStats.get("pending") + " pending, "
+            + wakeStats.get("skipped") + " already awake)"), false);
+        source.sendFeedback(() -> Text.literal("§7  Holding: §f" + wakeStats.get("holding") + " §7chunks for waking turtles, §f" + wakeStats.get("holdsExpired") + " §7released on timeout"), false);
+        source.sendFeedback(() -> Text.literal("§7  Progress: §f" + wakeStats.get("lastTickWoken") + " §7woken last tick, §f" + wakeStats.get("elapsedTicks") + " §7ticks elapsed (cap "
+            + Config.WAKE_MAX_PER_TICK + "/tick)"), false);
+
+        // Saves of our per-world data file
+        Map<String, Object> saveStats = ChunkManagerPersistentState.getWorldState(serverWorld).getSaveStats();
+        source.sendFeedback(() -> Text.literal(""), false);
+        source.sendFeedback(() -> Text.literal("§6Persistence:"), false);
+        source.sendFeedback(() -> Text.literal("§7  Saves Written: §f" + saveStats.get("written") + " §7(skipped unchanged: " + saveStats.get("skipped") + ")"), false);
+        source.sendFeedback(() -> Text.literal("§7  State Version: §f" + saveStats.get("currentVersion") + " §7(saved " + saveStats.get("savedVersion") + ")"), false);
+        source.sendFeedback(() -> Text.literal("§7  Last Save Time: §f" + (Long) saveStats.get("snapshotNanos") / 1000 + " us §7snapshot, §f" + (Long) saveStats.get("encodeNanos") / 1000 + " us §7encode"), false);
+        Map<String, Object> journalStats = manager.getJournal().getStats();
+        source.sendFeedback(() -> Text.literal("§7  Journal: §f" + journalStats.get("entries") + " §7entries (" + journalStats.get("pending") + " pending), §f"
+            + journalStats.get("commits") + " §7commits, §f" + journalStats.get("compactions") + " §7compactions" + ((Boolean) journalStats.get("open") ? "" : " §c(closed)")), false);
+        Map<String, Object> recordStats = manager.getSerializationStats();
+        source.sendFeedback(() -> Text.literal("§7  Last Save: §f" + recordStats.get("encoded") + " §7records encoded, §f" + recordStats.get("reused") + " §7reused (" + recordStats.get("dirty") + " dirty now)"), false);
+        source.sendFeedback(() -> Text.literal("§7  Dormant Records: §f" + recordStats.get("undecoded") + " §7still encoded, §f" + recordStats.get("decodedOnDemand") + " §7decoded on demand"), false);
+        Map<String, Object> storeStats = manager.getDormantStoreStats();
+        source.sendFeedback(() -> Text.literal("§7  Parked Turtles: §f" + storeStats.get("parked") + " §7in §f" + (Long) storeStats.get("bytes") / 1024 + " KB §7("
+            + ((Boolean) storeStats.get("mapped") ? "mapped file" : "direct memory") + ", " + storeStats.get("resizes") + " resizes)"), false);
+
+        // Random tick time budget and MSPT controller
+        Map<String, Object> budgetStats = RandomTickOrchestrator.getInstance().getBudgetStats(serverWorld);
+        source.sendFeedback(() -> Text.literal(""), false);
+        source.sendFeedback(() -> Text.literal("§6Random Ticking:"), false);
+        source.sendFeedback(() -> Text.literal("§7  Time Budget: §f" + budgetStats.get("usedNanos") + " / " + budgetStats.get("budgetNanos") + " ns"), false);
+        source.sendFeedback(() -> Text.literal("§7  Chunk Limit: §f" + budgetStats.get("chunkLimit") + " §7(ticked " + budgetStats.get("ticked") + ")"), false);
+        source.sendFeedback(() -> Text.literal("§7  Deficit: §f" + budgetStats.get("deficit") + " chunks"), false);
+        source.sendFeedback(() -> Text.literal("§7  Vanilla-Ticked: §f" + budgetStats.get("vanillaChunks") + " chunks §7(skipped " + budgetStats.get("vanillaSkipped") + ", total " + budgetStats.get("vanillaSkippedTotal") + ")"), false);
+        source.sendFeedback(() -> Text.literal("§7  Tickable Cache: §f" + budgetStats.get("cachedChunks") + " chunks"), false);
+        source.sendFeedback(() -> Text.literal(String.format("§7  Server MSPT: §f%.1f §7(target %.1f)", budgetStats.get("mspt"), budgetStats.get("targetMspt"))), false);
+        source.sendFeedback(() -> Text.literal("§7  Throttled: " + ((Boolean) budgetStats.get("throttled") ? "§cyes" : "§ano")), false);
+        
         // Add load state breakdown
         Set<UUID> allTrackedUUIDs = manager.getRestoredTurtleIds();
         int activeLoadedCount = 0;
@@ -461,4 +612,34 @@ public class ChunkloaderCommand {
         source.sendFeedback(() -> Text.literal("§6  Active + Unloaded: §f" + finalActiveUnloadedCount2), false);
         source.sendFeedback(() -> Text.literal("§7  Dormant: §f" + finalDormantCount2), false);
     }
+
+    private static void showRandomTickStats(ServerCommandSource source) {
+        source.sendFeedback(() -> Text.literal("§6=== Random Tick Statistics ==="), false);
+
+        if (!(source.getWorld() instanceof ServerWorld serverWorld)) {
+            source.sendError(Text.literal("Command must be run in a server world"));
+            return;
+        }
+
+        Map<String, Object> stats = RandomTickOrchestrator.getInstance().getTickRateStats(serverWorld);
+        source.sendFeedback(() -> Text.literal("§7Chunks: §f" + stats.get("chunks") + " §7(budget " + stats.get("budget") + " per tick)"), false);
+        source.sendFeedback(() -> Text.literal("§7Vanilla Rate: §f" + stats.get("vanillaRate") + " §7ticks/section/tick"), false);
+        if (stats.containsKey("avgRate")) {
+            source.sendFeedback(() -> Text.literal(String.format("§7Effective Rate: §fmin %.3f, avg %.3f, max %.3f",
+                stats.get("minRate"), stats.get("avgRate"), stats.get("maxRate"))), false);
+        }
+
+        source.sendFeedback(() -> Text.literal("§7Tick Debt: §f" + stats.get("totalDebt") + " §7rounds owed (max " + stats.get("maxDebt") + ", cap " + Config.RANDOM_TICK_DEBT_CAP + ")"), false);
+
+        // Lowest rates first, those are the chunks falling behind
+        @SuppressWarnings("unchecked")
+        Map<ChunkPos, Double> chunkRates = (Map<ChunkPos, Double>) stats.get("chunkRates");
+        @SuppressWarnings("unchecked")
+        Map<ChunkPos, Integer> chunkDebt = (Map<ChunkPos, Integer>) stats.get("chunkDebt");
+        chunkRates.entrySet().stream()
+            .sorted(Map.Entry.comparingByValue())
+            .limit(10)
+            .forEach(entry -> source.sendFeedback(() -> Text.literal(String.format("§e  [%d, %d]: §f%.3f §7(debt %d)",
+                entry.getKey().x, entry.getKey().z, entry.getValue(), chunkDebt.getOrDefault(entry.getKey(), 0))), false));
+    }
 }
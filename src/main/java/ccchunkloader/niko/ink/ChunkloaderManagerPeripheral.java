@@ -2,6 +2,8 @@ package ccchunkloader.niko.ink;
 
 import dan200.computercraft.api.lua.LuaException;
 import dan200.computercraft.api.lua.LuaFunction;
+import dan200.computercraft.api.lua.MethodResult;
+import dan200.computercraft.api.peripheral.IComputerAccess;
 import dan200.computercraft.api.peripheral.IPeripheral;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
@@ -16,6 +18,9 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Simplified peripheral interface for the Chunkloader Manager block.
@@ -23,8 +28,12 @@ import java.util.HashSet;
  */
 public class ChunkloaderManagerPeripheral implements IPeripheral {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChunkloaderManagerPeripheral.class);
+    private static final String BOOTSTRAP_EVENT = "chunkloader_bootstrap";
+    private static final AtomicInteger NEXT_REQUEST_ID = new AtomicInteger(1);
 
     private final World world;
+    // Computers attached to this peripheral; a bootstrap's event is only sent if its caller is still one
+    private final Set<IComputerAccess> computers = ConcurrentHashMap.newKeySet();
 
     public ChunkloaderManagerPeripheral(World world) {
         this.world = world;
@@ -41,27 +50,61 @@ public class ChunkloaderManagerPeripheral implements IPeripheral {
         return this == other;
     }
 
+    @Override
+    public void attach(@NotNull IComputerAccess computer) {
+        computers.add(computer);
+    }
+
+    @Override
+    public void detach(@NotNull IComputerAccess computer) {
+        computers.remove(computer);
+    }
+
+    /**
+     * Start waking a dormant turtle without blocking the calling computer
+     * When the bootstrap finishes, the calling computer receives
+     * chunkloader_bootstrap(requestId, turtleId, success, code, message), where code
+     * is SUCCESS, ALREADY_ACTIVE, TIMEOUT or UNLOADED (the world unloaded first).
+     * A turtle with no saved data fails straight away with a Lua error instead of an event.
+     * @return the request id, or null if the world is not a server world
+     * @throws LuaException If there is no saved data to bootstrap the turtle from (NO_DATA)
+     */
+    private Integer startBootstrap(IComputerAccess caller, UUID turtleId, String turtleIdString) throws LuaException {
+        if (!(world instanceof ServerWorld serverWorld)) {
+            return null;
+        }
+        CompletableFuture<ChunkManager.BootstrapResult> future = ChunkManager.get(serverWorld).bootstrapTurtleOnDemand(turtleId);
+        ChunkManager.BootstrapResult immediate = future.getNow(null);
+        if (immediate != null && !immediate.success) {
+            throw new LuaException("Turtle with ID " + turtleIdString + " not found. The turtle may have been removed or is out of fuel.");
+        }
+
+        int requestId = NEXT_REQUEST_ID.getAndIncrement();
+        future.thenAccept(result -> {
+            LOGGER.debug("Bootstrap request {} for turtle {} finished: {}", requestId, turtleId, result.errorCode);
+            if (computers.contains(caller)) {
+                caller.queueEvent(BOOTSTRAP_EVENT, requestId, turtleIdString, result.success, result.errorCode, result.message);
+            }
+        });
+        return requestId;
+    }
+
     /**
      * Get information about a turtle chunk loader by its ID
+     * A dormant turtle is woken in the background: this returns nil and a request id,
+     * and the info is available once the matching chunkloader_bootstrap event arrives.
      */
     @LuaFunction
-    public final Map<String, Object> getTurtleInfo(String turtleIdString) throws LuaException {
+    public final MethodResult getTurtleInfo(IComputerAccess computer, String turtleIdString) throws LuaException {
         UUID turtleId = parseUUID(turtleIdString);
         ChunkLoaderPeripheral chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
 
         if (chunkLoader == null) {
-            // Try to bootstrap the turtle on-demand
-            if (world instanceof ServerWorld serverWorld) {
-                ChunkManager manager = ChunkManager.get(serverWorld);
-                ChunkManager.BootstrapResult result = manager.bootstrapTurtleOnDemand(turtleId);
-                if (result.success) {
-                    chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
-                }
-            }
-            
-            if (chunkLoader == null) {
+            Integer requestId = startBootstrap(computer, turtleId, turtleIdString);
+            if (requestId == null) {
                 throw new LuaException("Turtle with ID " + turtleIdString + " not found. The turtle may have been removed or is out of fuel.");
             }
+            return MethodResult.of(null, requestId);
         }
 
         Map<String, Object> result = new HashMap<>();
@@ -73,7 +116,7 @@ public class ChunkloaderManagerPeripheral implements IPeripheral {
         result.put("fuelRate", chunkLoader.calculateFuelCost());
         result.put("active", true); // This turtle is currently active since we got info
 
-        return result;
+        return MethodResult.of(result);
     }
 
     /**
@@ -81,7 +124,7 @@ public class ChunkloaderManagerPeripheral implements IPeripheral {
      * NOW USES NEW ARCHITECTURE - Robust command queue system!
      */
     @LuaFunction
-    public final boolean setTurtleRadius(String turtleIdString, double radius) throws LuaException {
+    public final MethodResult setTurtleRadius(IComputerAccess computer, String turtleIdString, double radius) throws LuaException {
         if (radius < 0.0 || radius > Config.MAX_RADIUS) {
             throw new LuaException("Radius must be between 0.0 and " + Config.MAX_RADIUS);
         }
@@ -92,6 +135,14 @@ public class ChunkloaderManagerPeripheral implements IPeripheral {
             throw new LuaException("Remote management only available on server");
         }
         
+        // Dormant turtle - start waking it first, so a turtle with no data fails before anything is queued
+        ChunkLoaderPeripheral chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
+        Integer requestId = null;
+        if (chunkLoader == null) {
+            LOGGER.debug("Attempting bootstrap for dormant turtle {}", turtleId);
+            requestId = startBootstrap(computer, turtleId, turtleIdString);
+        }
+
         // Use new architecture - command queue with retry logic!
         TurtleCommandQueue commandQueue = CCChunkloader.getCommandQueue();
         TurtleStateEvents eventSystem = CCChunkloader.getEventSystem();
@@ -108,29 +159,18 @@ public class ChunkloaderManagerPeripheral implements IPeripheral {
         
         LOGGER.debug("SetRadius({}) queued for turtle {} by {}", radius, turtleId, commandSource);
         
-        // Check if turtle needs bootstrap and attempt it
-        ChunkLoaderPeripheral chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
-        if (chunkLoader == null && world instanceof ServerWorld serverWorld) {
-            // Turtle is dormant - try to bootstrap it
-            LOGGER.debug("Attempting bootstrap for dormant turtle {}", turtleId);
-            ChunkManager manager = ChunkManager.get(serverWorld);
-            ChunkManager.BootstrapResult result = manager.bootstrapTurtleOnDemand(turtleId);
-            
-            if (result.success) {
-                LOGGER.debug("Turtle {} bootstrap successful", turtleId);
-                chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
-            } else {
-                LOGGER.debug("Turtle {} bootstrap failed: {}", turtleId, result.errorCode);
-            }
-        }
-        
         // Fire event to trigger command processing
         eventSystem.fireEvent(new TurtleStateEvents.CommandQueuedEvent(turtleId, command, commandSource));
-        if (chunkLoader != null && radius > 0 && chunkLoader.getFuelLevel() == 0) {
+
+        if (chunkLoader == null) {
+            // Woken in the background, it applies the queued command once loaded
+            return MethodResult.of(true, requestId);
+        }
+        if (radius > 0 && chunkLoader.getFuelLevel() == 0) {
             throw new LuaException("Warning: Turtle " + turtleIdString + " has no fuel. Command queued but may not execute immediately.");
         }
         
-        return true; // Command is queued and will be processed reliably
+        return MethodResult.of(true); // Command is queued and will be processed reliably
     }
 
     /**
@@ -164,27 +204,24 @@ public class ChunkloaderManagerPeripheral implements IPeripheral {
      * Set wake on world load preference for a turtle
      */
     @LuaFunction
-    public final boolean setTurtleWakeOnWorldLoad(String turtleIdString, boolean wake) throws LuaException {
+    public final MethodResult setTurtleWakeOnWorldLoad(IComputerAccess computer, String turtleIdString, boolean wake) throws LuaException {
         UUID turtleId = parseUUID(turtleIdString);
         ChunkLoaderPeripheral chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
 
         if (chunkLoader == null) {
-            // Try to bootstrap the turtle on-demand
-            if (world instanceof ServerWorld serverWorld) {
-                ChunkManager manager = ChunkManager.get(serverWorld);
-                ChunkManager.BootstrapResult result = manager.bootstrapTurtleOnDemand(turtleId);
-                if (result.success) {
-                    chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
-                }
-            }
-            
-            if (chunkLoader == null) {
+            // Dormant turtle - queue the change and wake it in the background
+            String commandSource = "manager:" + turtleId.toString().substring(0, 8);
+            TurtleCommandQueue.SetWakeOnWorldLoadCommand command = new TurtleCommandQueue.SetWakeOnWorldLoadCommand(wake, commandSource);
+            Integer requestId = startBootstrap(computer, turtleId, turtleIdString);
+            if (requestId == null || !CCChunkloader.getCommandQueue().queueCommand(turtleId, command, commandSource)) {
                 throw new LuaException("Turtle with ID " + turtleIdString + " not found. The turtle may have been removed, is out of fuel, or bootstrap failed.");
             }
+            CCChunkloader.getEventSystem().fireEvent(new TurtleStateEvents.CommandQueuedEvent(turtleId, command, commandSource));
+            return MethodResult.of(true, requestId);
         }
 
         chunkLoader.setWakeOnWorldLoad(wake);
-        return true;
+        return MethodResult.of(true);
     }
 
     /**
@@ -196,18 +233,14 @@ public class ChunkloaderManagerPeripheral implements IPeripheral {
         ChunkLoaderPeripheral chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
 
         if (chunkLoader == null) {
-            // Try to bootstrap the turtle on-demand
+            // Dormant turtle - the saved state already knows the preference, no need to wake it
             if (world instanceof ServerWorld serverWorld) {
-                ChunkManager manager = ChunkManager.get(serverWorld);
-                ChunkManager.BootstrapResult result = manager.bootstrapTurtleOnDemand(turtleId);
-                if (result.success) {
-                    chunkLoader = ChunkLoaderRegistry.getPeripheral(turtleId);
+                ChunkLoaderPeripheral.SavedState cachedState = ChunkManager.get(serverWorld).getCachedTurtleState(turtleId);
+                if (cachedState != null) {
+                    return cachedState.wakeOnWorldLoad;
                 }
             }
-            
-            if (chunkLoader == null) {
-                throw new LuaException("Turtle with ID " + turtleIdString + " not found. The turtle may have been removed, is out of fuel, or bootstrap failed.");
-            }
+            throw new LuaException("Turtle with ID " + turtleIdString + " not found. The turtle may have been removed, is out of fuel, or bootstrap failed.");
         }
 
         return chunkLoader.getWakeOnWorldLoad();
@@ -11,9 +11,33 @@ public final class Config {
     // General Settings
     public static double MAX_RADIUS = 2.5;
     public static double MAX_RANDOM_TICK_RADIUS = 1.4;
+    // Ticks an unreferenced chunk stays forced so a returning turtle doesn't reload it from disk
+    public static int UNFORCE_GRACE_TICKS = 100;
+    // Time each world may spend random ticking turtle chunks per tick
+    public static long RANDOM_TICK_BUDGET_NANOS = 2_000_000L;
+    // Average server tick time above which random ticking backs off
+    public static double RANDOM_TICK_TARGET_MSPT = 50.0;
+    // Most missed random tick rounds a chunk can owe; owed rounds are paid back when there is spare budget
+    public static int RANDOM_TICK_DEBT_CAP = 600;
+    // Ticks between forcing journaled turtle changes to disk; changes in between are committed together
+    public static int JOURNAL_COMMIT_TICKS = 20;
+    // Keep dormant turtle records encoded on load and decode each one when it is first needed
+    public static boolean LAZY_TURTLE_RECORDS = true;
+    // Most wake-on-load turtles woken per world per tick. This is the real throttle: chunks load
+    // asynchronously after the wake is queued, so only the per-tick cap spreads out the loading
+    public static int WAKE_MAX_PER_TICK = 4;
+    // Time each world may spend queuing wakes per tick; only bounds the bookkeeping, not the chunk loads
+    public static long WAKE_BUDGET_NANOS = 5_000_000L;
+    // Most ticks a turtle's chunk is held to wake it while the chunk is still loading
+    public static int WAKE_HOLD_MAX_TICKS = 600;
+    // How chunks are kept loaded: "ticket" (non-persistent chunk tickets) or "forced" (vanilla force-loading)
+    public static String LOADING_BACKEND = ChunkLoadingBackend.TICKET;
 
     // Fuel Cost Configuration
     public static double BASE_FUEL_COST_PER_CHUNK = 0.0333333;
     public static double DISTANCE_MULTIPLIER = 2.0;
     public static double RANDOM_TICK_FUEL_MULTIPLIER = 2.0;
+    // Fuel multipliers for the cheaper load levels (FULL always costs 1x)
+    public static double BLOCK_LOAD_FUEL_MULTIPLIER = 0.5;
+    public static double BORDER_LOAD_FUEL_MULTIPLIER = 0.25;
 }
@@ -0,0 +1,173 @@
+package ccchunkloader.niko.ink;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.BitSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Turtle records left encoded in the saved columns until something asks for them.
+ * Holds the column arrays as loaded plus the rows sorted by UUID, so a lookup is a binary
+ * search with no per-turtle objects. Each row is handed out once; after that the turtle
+ * lives in ChunkManager's regular maps. Not thread-safe - ChunkManager guards it.
+ */
+public class DormantTurtleIndex {
+    private static final int NO_COMPUTER = -1;
+
+    private final long[] uuidMost;
+    private final long[] uuidLeast;
+    private final long[] positions;
+    private final int[] fuel;
+    private final int[] computerIds;
+    private final long[] wakeFlags;
+    private final int[] sortedRows; // Row numbers ordered by UUID
+    private final BitSet taken; // Rows already handed out
+    private int remaining;
+
+    DormantTurtleIndex(long[] uuidMost, long[] uuidLeast, long[] positions, int[] fuel, int[] computerIds, long[] wakeFlags) {
+        this.uuidMost = uuidMost;
+        this.uuidLeast = uuidLeast;
+        this.positions = positions;
+        this.fuel = fuel;
+        this.computerIds = computerIds;
+        this.wakeFlags = wakeFlags;
+        this.remaining = uuidMost.length;
+        this.taken = new BitSet(remaining);
+        this.sortedRows = new int[remaining];
+        for (int i = 0; i < remaining; i++) {
+            sortedRows[i] = i;
+        }
+        IntArrays.quickSort(sortedRows, this::compareRows);
+    }
+
+    /**
+     * Number of rows not handed out yet
+     */
+    public int remaining() {
+        return remaining;
+    }
+
+    /**
+     * Check a turtle has a row that hasn't been handed out
+     */
+    public boolean contains(UUID turtleId) {
+        return find(turtleId) >= 0;
+    }
+
+    /**
+     * Decode and hand out a turtle's row
+     * @return the record, or null if the turtle has no remaining row
+     */
+    public TurtleRecordTable.Record take(UUID turtleId) {
+        int row = find(turtleId);
+        return row >= 0 ? takeRow(row) : null;
+    }
+
+    /**
+     * Hand out every remaining row with the wake flag set
+     */
+    public void takeWaking(Consumer<TurtleRecordTable.Record> consumer) {
+        for (int row = 0; row < uuidMost.length; row++) {
+            if (!taken.get(row) && isWaking(row)) {
+                consumer.accept(takeRow(row));
+            }
+        }
+    }
+
+    /**
+     * Hand out every remaining row belonging to a computer
+     */
+    public void takeForComputer(int computerId, Consumer<TurtleRecordTable.Record> consumer) {
+        for (int row = 0; row < uuidMost.length; row++) {
+            if (!taken.get(row) && computerIds[row] == computerId) {
+                consumer.accept(takeRow(row));
+            }
+        }
+    }
+
+    /**
+     * Hand out every remaining row
+     */
+    public void takeAll(Consumer<TurtleRecordTable.Record> consumer) {
+        for (int row = taken.nextClearBit(0); row < uuidMost.length; row = taken.nextClearBit(row + 1)) {
+            consumer.accept(takeRow(row));
+        }
+    }
+
+    /**
+     * Visit remaining rows as records without handing them out, e.g. to save them unchanged
+     */
+    public void forEachRemaining(Consumer<TurtleRecordTable.Record> consumer) {
+        for (int row = taken.nextClearBit(0); row < uuidMost.length; row = taken.nextClearBit(row + 1)) {
+            consumer.accept(decode(row));
+        }
+    }
+
+    /**
+     * Visit the UUIDs of remaining rows
+     */
+    public void forEachRemainingId(Consumer<UUID> consumer) {
+        for (int row = taken.nextClearBit(0); row < uuidMost.length; row = taken.nextClearBit(row + 1)) {
+            consumer.accept(new UUID(uuidMost[row], uuidLeast[row]));
+        }
+    }
+
+    /**
+     * Visit the computer IDs of remaining rows that have one
+     */
+    public void forEachRemainingComputerId(IntConsumer consumer) {
+        for (int row = taken.nextClearBit(0); row < uuidMost.length; row = taken.nextClearBit(row + 1)) {
+            if (computerIds[row] != NO_COMPUTER) {
+                consumer.accept(computerIds[row]);
+            }
+        }
+    }
+
+    private TurtleRecordTable.Record takeRow(int row) {
+        taken.set(row);
+        remaining--;
+        return decode(row);
+    }
+
+    private TurtleRecordTable.Record decode(int row) {
+        Integer computerId = computerIds[row] != NO_COMPUTER ? computerIds[row] : null;
+        return new TurtleRecordTable.Record(new UUID(uuidMost[row], uuidLeast[row]), new ChunkPos(positions[row]),
+                                            fuel[row], isWaking(row), computerId);
+    }
+
+    private boolean isWaking(int row) {
+        return (wakeFlags[row >> 6] & (1L << (row & 63))) != 0;
+    }
+
+    private int find(UUID turtleId) {
+        long most = turtleId.getMostSignificantBits();
+        long least = turtleId.getLeastSignificantBits();
+        int low = 0;
+        int high = sortedRows.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int row = sortedRows[mid];
+            int cmp = compare(uuidMost[row], uuidLeast[row], most, least);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return taken.get(row) ? -1 : row;
+            }
+        }
+        return -1;
+    }
+
+    private int compareRows(int a, int b) {
+        return compare(uuidMost[a], uuidLeast[a], uuidMost[b], uuidLeast[b]);
+    }
+
+    private static int compare(long mostA, long leastA, long mostB, long leastB) {
+        int cmp = Long.compare(mostA, mostB);
+        return cmp != 0 ? cmp : Long.compare(leastA, leastB);
+    }
+}
@@ -0,0 +1,372 @@
+package ccchunkloader.niko.ink;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.WorldSavePath;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.dimension.DimensionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Off-heap home for the remote management state of turtles that have unloaded.
+ * A memory-mapped file per world holds an open-addressed hash table of fixed-size slots:
+ * uuidMost (8) | uuidLeast (8) | position (8) | radius override (8) | fuel (4) | computer ID (4) | flags (4) | unused (4).
+ * A parked turtle costs no heap objects; reading one back builds a RemoteManagementState on demand.
+ * The file is scratch space rebuilt every session - saved data and the journal stay authoritative.
+ * Falls back to direct memory if the file can't be mapped. Not thread-safe - ChunkManager guards it.
+ */
+public class DormantTurtleStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DormantTurtleStore.class);
+
+    private static final int SLOT_SIZE = 48;
+    private static final int OFFSET_UUID_MOST = 0;
+    private static final int OFFSET_UUID_LEAST = 8;
+    private static final int OFFSET_POSITION = 16;
+    private static final int OFFSET_OVERRIDE = 24;
+    private static final int OFFSET_FUEL = 32;
+    private static final int OFFSET_COMPUTER = 36;
+    private static final int OFFSET_FLAGS = 40;
+
+    private static final int FLAG_USED = 1;
+    private static final int FLAG_WAKE = 2;
+    private static final int FLAG_OVERRIDE = 4;
+    private static final int NO_COMPUTER = -1;
+
+    private static final int INITIAL_CAPACITY = 1024; // Slots; always a power of two
+    private static final float MAX_LOAD = 0.5f;
+    private static final String FILE_NAME = "ccchunkloader_dormant.bin";
+
+    private final Path path;
+    private FileChannel channel; // null when running from direct memory
+    private ByteBuffer slots;
+    private int capacity;
+    private int mask;
+    private volatile int size; // Read without the lock as a fast path
+    private long resizes = 0;
+
+    private DormantTurtleStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Open a world's store, discarding whatever a previous session left in the file
+     */
+    public static DormantTurtleStore open(ServerWorld world) {
+        Path dataDir = DimensionType.getSaveDirectory(world.getRegistryKey(), world.getServer().getSavePath(WorldSavePath.ROOT))
+            .resolve("data");
+        DormantTurtleStore store = new DormantTurtleStore(dataDir.resolve(FILE_NAME));
+        try {
+            Files.createDirectories(dataDir);
+            store.channel = FileChannel.open(store.path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                             StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to open dormant turtle store {}, keeping it in direct memory instead", store.path, e);
+            store.channel = null;
+        }
+        store.allocate(INITIAL_CAPACITY);
+        return store;
+    }
+
+    /**
+     * Number of parked turtles
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Park a turtle's state, replacing any already parked for it.
+     * The state must have a position.
+     */
+    public void put(UUID turtleId, ChunkManager.RemoteManagementState state) {
+        if ((size + 1) > capacity * MAX_LOAD) {
+            allocate(capacity * 2);
+        }
+        long most = turtleId.getMostSignificantBits();
+        long least = turtleId.getLeastSignificantBits();
+        int slot = find(most, least);
+        if (slot < 0) {
+            slot = ~slot;
+            size++;
+        }
+        write(slot, most, least, state);
+    }
+
+    /**
+     * Check a turtle is parked
+     */
+    public boolean contains(UUID turtleId) {
+        return size > 0 && find(turtleId.getMostSignificantBits(), turtleId.getLeastSignificantBits()) >= 0;
+    }
+
+    /**
+     * Remove a parked turtle
+     * @return its state, or null if it wasn't parked
+     */
+    public ChunkManager.RemoteManagementState take(UUID turtleId) {
+        if (size == 0) {
+            return null;
+        }
+        int slot = find(turtleId.getMostSignificantBits(), turtleId.getLeastSignificantBits());
+        if (slot < 0) {
+            return null;
+        }
+        ChunkManager.RemoteManagementState state = read(slot);
+        removeSlot(slot);
+        return state;
+    }
+
+    /**
+     * Remove every parked turtle belonging to a computer
+     */
+    public void takeForComputer(int computerId, BiConsumer<UUID, ChunkManager.RemoteManagementState> consumer) {
+        int slot = 0;
+        while (slot < capacity) {
+            int base = slot * SLOT_SIZE;
+            if (isUsed(slot) && slots.getInt(base + OFFSET_COMPUTER) == computerId) {
+                UUID turtleId = new UUID(slots.getLong(base + OFFSET_UUID_MOST), slots.getLong(base + OFFSET_UUID_LEAST));
+                consumer.accept(turtleId, read(slot));
+                // Removal may shift a later entry into this slot, so look at it again
+                removeSlot(slot);
+                continue;
+            }
+            slot++;
+        }
+    }
+
+    /**
+     * Visit every parked turtle without removing it
+     */
+    public void forEach(BiConsumer<UUID, ChunkManager.RemoteManagementState> consumer) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isUsed(slot)) {
+                int base = slot * SLOT_SIZE;
+                consumer.accept(new UUID(slots.getLong(base + OFFSET_UUID_MOST), slots.getLong(base + OFFSET_UUID_LEAST)), read(slot));
+            }
+        }
+    }
+
+    /**
+     * Visit the UUIDs of parked turtles
+     */
+    public void forEachId(Consumer<UUID> consumer) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isUsed(slot)) {
+                int base = slot * SLOT_SIZE;
+                consumer.accept(new UUID(slots.getLong(base + OFFSET_UUID_MOST), slots.getLong(base + OFFSET_UUID_LEAST)));
+            }
+        }
+    }
+
+    /**
+     * Visit the computer IDs of parked turtles that have one
+     */
+    public void forEachComputerId(IntConsumer consumer) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isUsed(slot)) {
+                int computerId = slots.getInt(slot * SLOT_SIZE + OFFSET_COMPUTER);
+                if (computerId != NO_COMPUTER) {
+                    consumer.accept(computerId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the store and delete its file; it stays empty afterwards and must not be written to
+     */
+    public void close() {
+        slots = null;
+        capacity = 0;
+        size = 0;
+        if (channel == null) {
+            return;
+        }
+        closeChannel();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Some platforms keep the file until the mapping is collected; it's truncated on next open anyway
+            LOGGER.debug("Could not delete dormant turtle store {}", path, e);
+        }
+    }
+
+    /**
+     * Get store counters for debugging
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("parked", size);
+        stats.put("capacity", capacity);
+        stats.put("bytes", (long) capacity * SLOT_SIZE);
+        stats.put("mapped", channel != null);
+        stats.put("resizes", resizes);
+        return stats;
+    }
+
+    /**
+     * Find a turtle's slot
+     * @return the slot, or the bitwise complement of the empty slot it would go in
+     */
+    private int find(long most, long least) {
+        int slot = idealSlot(most, least);
+        while (isUsed(slot)) {
+            int base = slot * SLOT_SIZE;
+            if (slots.getLong(base + OFFSET_UUID_MOST) == most && slots.getLong(base + OFFSET_UUID_LEAST) == least) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    private int idealSlot(long most, long least) {
+        return (int) HashCommon.mix(most ^ least) & mask;
+    }
+
+    private boolean isUsed(int slot) {
+        return (slots.getInt(slot * SLOT_SIZE + OFFSET_FLAGS) & FLAG_USED) != 0;
+    }
+
+    /**
+     * Clear a slot, shifting later entries of the probe run back so lookups never cross a gap
+     */
+    private void removeSlot(int slot) {
+        size--;
+        int last;
+        while (true) {
+            last = slot;
+            slot = (slot + 1) & mask;
+            while (true) {
+                if (!isUsed(slot)) {
+                    slots.putInt(last * SLOT_SIZE + OFFSET_FLAGS, 0);
+                    return;
+                }
+                int base = slot * SLOT_SIZE;
+                int ideal = idealSlot(slots.getLong(base + OFFSET_UUID_MOST), slots.getLong(base + OFFSET_UUID_LEAST));
+                // Move the entry back unless its ideal slot lies cyclically in (last, slot]
+                if (last <= slot ? last >= ideal || ideal > slot : last >= ideal && ideal > slot) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            copySlot(slot, last);
+        }
+    }
+
+    private void copySlot(int from, int to) {
+        ByteBuffer source = slots.duplicate();
+        source.position(from * SLOT_SIZE).limit(from * SLOT_SIZE + SLOT_SIZE);
+        ByteBuffer target = slots.duplicate();
+        target.position(to * SLOT_SIZE);
+        target.put(source);
+    }
+
+    private void write(int slot, long most, long least, ChunkManager.RemoteManagementState state) {
+        int base = slot * SLOT_SIZE;
+        int flags = FLAG_USED;
+        if (state.wakeOnWorldLoad) {
+            flags |= FLAG_WAKE;
+        }
+        if (state.radiusOverride != null) {
+            flags |= FLAG_OVERRIDE;
+        }
+        slots.putLong(base + OFFSET_UUID_MOST, most);
+        slots.putLong(base + OFFSET_UUID_LEAST, least);
+        slots.putLong(base + OFFSET_POSITION, state.lastKnownPosition.toLong());
+        slots.putDouble(base + OFFSET_OVERRIDE, state.radiusOverride != null ? state.radiusOverride : 0.0);
+        slots.putInt(base + OFFSET_FUEL, state.lastKnownFuel);
+        slots.putInt(base + OFFSET_COMPUTER, state.computerId != null ? state.computerId : NO_COMPUTER);
+        slots.putInt(base + OFFSET_FLAGS, flags);
+    }
+
+    private ChunkManager.RemoteManagementState read(int slot) {
+        int base = slot * SLOT_SIZE;
+        int flags = slots.getInt(base + OFFSET_FLAGS);
+        int computerId = slots.getInt(base + OFFSET_COMPUTER);
+        return new ChunkManager.RemoteManagementState(
+            new ChunkPos(slots.getLong(base + OFFSET_POSITION)),
+            slots.getInt(base + OFFSET_FUEL),
+            (flags & FLAG_WAKE) != 0,
+            computerId != NO_COMPUTER ? computerId : null,
+            (flags & FLAG_OVERRIDE) != 0 ? slots.getDouble(base + OFFSET_OVERRIDE) : null);
+    }
+
+    /**
+     * Switch to a table of the given capacity, rehashing anything already parked
+     */
+    private void allocate(int newCapacity) {
+        ByteBuffer old = slots;
+        int oldCapacity = capacity;
+        byte[] entries = null;
+        if (old != null) {
+            // The new mapping may cover the same bytes, so take the old table off the file first
+            entries = new byte[oldCapacity * SLOT_SIZE];
+            old.duplicate().position(0).get(entries);
+            resizes++;
+        }
+
+        long bytes = (long) newCapacity * SLOT_SIZE;
+        slots = null;
+        if (channel != null) {
+            try {
+                // Mapping past the end grows the file; stale flags from the old table are cleared below
+                slots = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                for (int slot = 0; slot < oldCapacity; slot++) {
+                    slots.putInt(slot * SLOT_SIZE + OFFSET_FLAGS, 0);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to map dormant turtle store {}, moving it to direct memory", path, e);
+                closeChannel();
+            }
+        }
+        if (slots == null) {
+            slots = ByteBuffer.allocateDirect((int) bytes);
+        }
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+        size = 0;
+
+        if (entries != null) {
+            ByteBuffer from = ByteBuffer.wrap(entries);
+            for (int slot = 0; slot < oldCapacity; slot++) {
+                int base = slot * SLOT_SIZE;
+                if ((from.getInt(base + OFFSET_FLAGS) & FLAG_USED) == 0) {
+                    continue;
+                }
+                long most = from.getLong(base + OFFSET_UUID_MOST);
+                long least = from.getLong(base + OFFSET_UUID_LEAST);
+                int target = ~find(most, least);
+                slots.put(target * SLOT_SIZE, entries, base, SLOT_SIZE);
+                size++;
+            }
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close dormant turtle store {}", path, e);
+        }
+        channel = null;
+    }
+}
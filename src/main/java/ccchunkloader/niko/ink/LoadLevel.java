@@ -0,0 +1,72 @@
+package ccchunkloader.niko.ink;
+
+/**
+ * How strongly a turtle keeps its chunks loaded.
+ * Declared from strongest to weakest; a chunk shared by several turtles
+ * is loaded at the strongest level any of them asks for.
+ */
+public enum LoadLevel {
+    FULL("full", 31),     // Entities, block entities and redstone all tick
+    BLOCK("block", 32),   // Block entities and scheduled block ticks only, no entities
+    BORDER("border", 33); // Resident only, nothing ticks (ChunkManager keeps the turtle's own chunk at BLOCK)
+
+    // Cached so per-chunk lookups by ordinal don't copy values()
+    private static final LoadLevel[] LEVELS = values();
+
+    private final String name;
+    private final int ticketLevel;
+
+    LoadLevel(String name, int ticketLevel) {
+        this.name = name;
+        this.ticketLevel = ticketLevel;
+    }
+
+    /**
+     * Name used by Lua and NBT
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Chunk ticket level used by the ticket backend
+     */
+    public int getTicketLevel() {
+        return ticketLevel;
+    }
+
+    /**
+     * Fuel cost multiplier applied on top of the footprint cost
+     */
+    public double getFuelMultiplier() {
+        switch (this) {
+            case BLOCK:
+                return Config.BLOCK_LOAD_FUEL_MULTIPLIER;
+            case BORDER:
+                return Config.BORDER_LOAD_FUEL_MULTIPLIER;
+            default:
+                return 1.0;
+        }
+    }
+
+    /**
+     * Look up a level by name
+     * @return the level, or null if the name is unknown
+     */
+    public static LoadLevel fromName(String name) {
+        for (LoadLevel level : LEVELS) {
+            if (level.name.equalsIgnoreCase(name)) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    public static LoadLevel byOrdinal(int ordinal) {
+        return LEVELS[ordinal];
+    }
+
+    public static int count() {
+        return LEVELS.length;
+    }
+}
@@ -1,23 +1,31 @@
 package ccchunkloader.niko.ink;
 
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.minecraft.block.BlockState;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.random.Random;
 import net.minecraft.world.GameRules;
+import net.minecraft.world.World;
 import net.minecraft.world.chunk.WorldChunk;
 import net.minecraft.world.chunk.ChunkSection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
 import java.util.Map;
-import java.util.ArrayList;
-import java.util.UUID;
 
 /**
  * Orchestrates random ticking for turtle-loaded chunks using public APIs.
@@ -27,11 +35,19 @@ public class RandomTickOrchestrator {
     private static final Logger LOGGER = LoggerFactory.getLogger(RandomTickOrchestrator.class);
 
     // Configuration constants
-    private static final int MAX_CHUNKS_PER_WORLD_PER_TICK = 2048; // Global budget per world per tick.
+    private static final int MAX_CHUNKS_PER_WORLD_PER_TICK = 2048; // Upper bound of the adaptive chunk limit per world per tick.
+    private static final int MIN_CHUNKS_PER_WORLD_PER_TICK = 16; // The controller never throttles below this
+    private static final int CHUNK_LIMIT_STEP = 32; // Additive increase per tick while the server keeps up
+    private static final int MAX_CATCH_UP_ROUNDS = 3; // Owed rounds paid back per visit, bounds a chunk's worst-case cost
+    private static final int VANILLA_CHECK_INTERVAL = 20; // Ticks between refreshes of the vanilla-ticked chunk cache
+    private static final double VANILLA_TICK_RANGE_SQUARED = 16384.0; // Vanilla only ticks chunks within 128 blocks of a player
     private static final boolean DEBUG_LOGGING = false; // Set to true for detailed debug logs
 
     private static RandomTickOrchestrator instance;
 
+    // Round-robin state per world, only touched on the server thread
+    private final Map<ServerWorld, WorldTickState> worldStates = new HashMap<>();
+
     private RandomTickOrchestrator() {
         // Private constructor for singleton
     }
@@ -48,8 +64,8 @@ public class RandomTickOrchestrator {
      */
     public void initialize() {
         ServerTickEvents.END_WORLD_TICK.register(this::onWorldTick);
-        LOGGER.info("RandomTickOrchestrator initialized with budget: {} chunks per world per tick",
-                   MAX_CHUNKS_PER_WORLD_PER_TICK);
+        LOGGER.info("RandomTickOrchestrator initialized with budget: up to {} chunks and {} ns per world per tick",
+                   MAX_CHUNKS_PER_WORLD_PER_TICK, Config.RANDOM_TICK_BUDGET_NANOS);
     }
 
     /**
@@ -62,63 +78,349 @@ public class RandomTickOrchestrator {
             return; // Random ticks disabled globally
         }
 
-        // Get all active turtle chunk loaders with random ticks enabled for this world
-        Map<UUID, ChunkLoaderPeripheral> allPeripherals = ChunkLoaderRegistry.getAllPeripherals();
-        List<ChunkLoaderPeripheral> randomTickLoaders = new ArrayList<>();
+        // ChunkManager keeps the random tick chunk set up to date as turtles move and toggle
+        ChunkManager manager = ChunkManager.getExisting(world);
+        if (manager == null) {
+            return;
+        }
+        int chunkCount = manager.getRandomTickChunkCount();
+        if (chunkCount == 0) {
+            return; // No chunks to tick
+        }
+
+        WorldTickState state = worldStates.get(world);
+        if (state == null) {
+            state = new WorldTickState();
+            worldStates.put(world, state);
+        }
+        long version = manager.getRandomTickVersion();
+        if (state.version != version) {
+            state.sync(manager.getRandomTickChunks(), version);
+            // New chunks need classifying before they're ticked; the rest wait for the periodic refresh
+            classifyVanillaTicked(world, state, state.added.iterator());
+        }
+        state.tick++;
+
+        if (state.tick > state.nextVanillaCheck) {
+            state.vanillaTicked.clear();
+            classifyVanillaTicked(world, state, state.registeredAt.keySet().iterator());
+            state.nextVanillaCheck = state.tick + VANILLA_CHECK_INTERVAL;
+        }
+
+        state.adjustChunkLimit(world.getServer().getTickTime());
+
+        // Apply the adaptive chunk limit, continuing from where the previous tick stopped
+        int chunksToTick = Math.min(chunkCount, state.chunkLimit);
+        int start = state.cursor % chunkCount;
+        chunksToTick = manager.copyRandomTickChunks(start, chunksToTick, state.batch);
+
+        if (DEBUG_LOGGING) {
+            LOGGER.debug("World {} random tick: {} total chunks, up to {} chunks from {} (speed={}, limit={})",
+                        world.getRegistryKey().getValue(), chunkCount, chunksToTick, start, randomTickSpeed, state.chunkLimit);
+        }
+
+        // Stop at the time budget; chunks not reached are first in line next tick
+        long budgetNanos = Config.RANDOM_TICK_BUDGET_NANOS;
+        long startNanos = System.nanoTime();
+        long elapsedNanos = 0;
+        int visited = 0;
+        int skipped = 0;
+        while (visited < chunksToTick && elapsedNanos < budgetNanos) {
+            long packed = state.batch[visited++];
+
+            // Vanilla is already random ticking this chunk, ticking it again would double its rate
+            if (state.vanillaTicked.contains(packed)) {
+                state.settleDebt(packed, 0);
+                skipped++;
+                continue;
+            }
+
+            int chunkX = ChunkPos.getPackedX(packed);
+            int chunkZ = ChunkPos.getPackedZ(packed);
+
+            // Ensure chunk is loaded before ticking; vanilla wouldn't tick it either, so nothing is owed
+            if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                state.settleDebt(packed, state.getDebt(packed));
+                continue;
+            }
+
+            // This tick's round, plus owed rounds while there is spare budget
+            int debt = state.getDebt(packed);
+            int catchUp = 0;
+            if (debt > 0 && !state.throttled && elapsedNanos < budgetNanos / 2) {
+                catchUp = Math.min(debt, MAX_CATCH_UP_ROUNDS);
+            }
+            state.settleDebt(packed, debt - catchUp);
+            int rounds = 1 + catchUp;
 
-        for (ChunkLoaderPeripheral loader : allPeripherals.values()) {
-            // Only process loaders in this world and with random ticks enabled
-            if (loader.getWorldKey() != null &&
-                loader.getWorldKey().equals(world.getRegistryKey()) &&
-                loader.isRandomTickEnabled()) {
-                randomTickLoaders.add(loader);
+            WorldChunk chunk = world.getChunk(chunkX, chunkZ);
+            ChunkTickables tickables = state.tickables.get(packed);
+            if (tickables == null || !tickables.isFor(chunk)) {
+                tickables = new ChunkTickables(chunk);
+                state.tickables.put(packed, tickables);
             }
+            applyRandomTicksToChunk(world, chunk, tickables, randomTickSpeed * rounds);
+            state.ticksReceived.addTo(packed, rounds);
+            elapsedNanos = System.nanoTime() - startNanos;
         }
 
-        if (randomTickLoaders.isEmpty()) {
-            return; // No random tick loaders in this world
+        state.cursor = (start + visited) % chunkCount;
+        state.lastUsedNanos = elapsedNanos;
+        state.lastTicked = visited;
+        state.deficit = chunkCount - visited;
+        state.lastVanillaSkipped = skipped;
+        state.vanillaSkipped += skipped;
+    }
+
+    /**
+     * Add the given chunks to vanillaTicked if vanilla random ticks them on its own.
+     * Mirrors ServerChunkManager's rule: within simulation distance of a non-spectator player
+     * and within 128 blocks of that player. Players move slowly next to the refresh interval,
+     * so the per-chunk lookup in the tick loop is a set lookup instead of a player scan.
+     * The whole set is rebuilt every VANILLA_CHECK_INTERVAL ticks; in between, only chunks
+     * that just joined are classified, so turtles moving every tick don't trigger full rescans.
+     */
+    private void classifyVanillaTicked(ServerWorld world, WorldTickState state, LongIterator iterator) {
+        List<ServerPlayerEntity> players = world.getPlayers();
+        if (players.isEmpty()) {
+            return;
         }
+        int simulationDistance = world.getServer().getPlayerManager().getSimulationDistance();
+
+        while (iterator.hasNext()) {
+            long packed = iterator.nextLong();
+            int chunkX = ChunkPos.getPackedX(packed);
+            int chunkZ = ChunkPos.getPackedZ(packed);
+            double centerX = (chunkX << 4) + 8.0;
+            double centerZ = (chunkZ << 4) + 8.0;
 
-        // Apply budget: gather all chunks from all loaders, then limit total
-        Set<ChunkPos> allRandomTickChunks = java.util.concurrent.ConcurrentHashMap.newKeySet();
-        for (ChunkLoaderPeripheral loader : randomTickLoaders) {
-            allRandomTickChunks.addAll(loader.getLoadedChunks());
+            for (ServerPlayerEntity player : players) {
+                if (player.isSpectator()) {
+                    continue;
+                }
+                ChunkPos playerChunk = player.getChunkPos();
+                int distance = Math.max(Math.abs(playerChunk.x - chunkX), Math.abs(playerChunk.z - chunkZ));
+                if (distance > simulationDistance) {
+                    continue;
+                }
+                double dx = centerX - player.getX();
+                double dz = centerZ - player.getZ();
+                if (dx * dx + dz * dz < VANILLA_TICK_RANGE_SQUARED) {
+                    state.vanillaTicked.add(packed);
+                    break;
+                }
+            }
         }
+    }
 
-        if (allRandomTickChunks.isEmpty()) {
-            return; // No chunks to tick
+    /**
+     * Keep the tickable position caches current; called from WorldChunk.setBlockState.
+     * Only changes that make a position start or stop ticking need recording.
+     */
+    public static void onBlockChanged(World world, BlockPos pos, BlockState previous, BlockState state) {
+        if (instance == null || !(world instanceof ServerWorld)) {
+            return;
+        }
+        if (ChunkTickables.isTickable(previous) == ChunkTickables.isTickable(state)) {
+            return;
+        }
+        ServerWorld serverWorld = (ServerWorld) world;
+        if (!serverWorld.getServer().isOnThread()) {
+            return; // The caches are only touched on the server thread
+        }
+        WorldTickState worldState = instance.worldStates.get(serverWorld);
+        if (worldState == null) {
+            return;
+        }
+        ChunkTickables tickables = worldState.tickables.get(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (tickables != null) {
+            tickables.onBlockChanged(pos, ChunkTickables.isTickable(state));
         }
+    }
 
-        // Apply global budget limit
-        int chunksToTick = Math.min(allRandomTickChunks.size(), MAX_CHUNKS_PER_WORLD_PER_TICK);
+    /**
+     * Forget the round-robin state of an unloading world
+     */
+    public void removeWorld(ServerWorld world) {
+        worldStates.remove(world);
+    }
 
-        if (DEBUG_LOGGING) {
-            LOGGER.debug("World {} random tick: {} loaders, {} total chunks, ticking {} chunks (speed={})",
-                        world.getRegistryKey().getValue(), randomTickLoaders.size(),
-                        allRandomTickChunks.size(), chunksToTick, randomTickSpeed);
+    /**
+     * Get time budget and throttle state for a world
+     */
+    public Map<String, Object> getBudgetStats(ServerWorld world) {
+        Map<String, Object> stats = new HashMap<>();
+        WorldTickState state = worldStates.get(world);
+        stats.put("budgetNanos", Config.RANDOM_TICK_BUDGET_NANOS);
+        stats.put("targetMspt", Config.RANDOM_TICK_TARGET_MSPT);
+        stats.put("chunkLimit", state != null ? state.chunkLimit : MAX_CHUNKS_PER_WORLD_PER_TICK);
+        stats.put("throttled", state != null && state.throttled);
+        stats.put("mspt", state != null ? state.lastMspt : 0.0f);
+        stats.put("usedNanos", state != null ? state.lastUsedNanos : 0L);
+        stats.put("ticked", state != null ? state.lastTicked : 0);
+        stats.put("deficit", state != null ? state.deficit : 0);
+        stats.put("vanillaChunks", state != null ? state.vanillaTicked.size() : 0);
+        stats.put("vanillaSkipped", state != null ? state.lastVanillaSkipped : 0);
+        stats.put("vanillaSkippedTotal", state != null ? state.vanillaSkipped : 0L);
+        stats.put("cachedChunks", state != null ? state.tickables.size() : 0);
+        return stats;
+    }
+
+    /**
+     * Get random tick fairness statistics for a world
+     * Each chunk's effective rate is the random ticks per section per game tick it actually
+     * received since it was registered; vanilla gives every ticking chunk randomTickSpeed.
+     */
+    public Map<String, Object> getTickRateStats(ServerWorld world) {
+        int randomTickSpeed = world.getGameRules().getInt(GameRules.RANDOM_TICK_SPEED);
+        Map<String, Object> stats = new HashMap<>();
+        Map<ChunkPos, Double> chunkRates = new HashMap<>();
+        WorldTickState budgetState = worldStates.get(world);
+        stats.put("budget", budgetState != null ? budgetState.chunkLimit : MAX_CHUNKS_PER_WORLD_PER_TICK);
+        stats.put("vanillaRate", (double) randomTickSpeed);
+        stats.put("chunkRates", chunkRates);
+
+        WorldTickState state = worldStates.get(world);
+        if (state == null) {
+            stats.put("chunks", 0);
+            stats.put("chunkDebt", new HashMap<ChunkPos, Integer>());
+            stats.put("totalDebt", 0L);
+            stats.put("maxDebt", 0);
+            return stats;
         }
 
-        // Convert to array for indexed access and apply budget
-        ChunkPos[] chunkArray = allRandomTickChunks.toArray(new ChunkPos[0]);
+        Map<ChunkPos, Integer> chunkDebt = new HashMap<>();
+        long totalDebt = 0;
+        int maxDebt = 0;
+        for (Long2LongMap.Entry entry : state.registeredAt.long2LongEntrySet()) {
+            long packed = entry.getLongKey();
+            long elapsed = state.tick - entry.getLongValue();
+            if (elapsed > 0) {
+                double share = (double) state.ticksReceived.get(packed) / elapsed;
+                chunkRates.put(new ChunkPos(packed), share * randomTickSpeed);
+            }
+            int debt = state.vanillaTicked.contains(packed) ? 0 : state.getDebt(packed);
+            if (debt > 0) {
+                chunkDebt.put(new ChunkPos(packed), debt);
+                totalDebt += debt;
+                maxDebt = Math.max(maxDebt, debt);
+            }
+        }
+        stats.put("chunkDebt", chunkDebt);
+        stats.put("totalDebt", totalDebt);
+        stats.put("maxDebt", maxDebt);
+        stats.put("chunks", state.registeredAt.size());
+        stats.put("minRate", chunkRates.values().stream().mapToDouble(Double::doubleValue).min().orElse(0.0));
+        stats.put("avgRate", chunkRates.values().stream().mapToDouble(Double::doubleValue).average().orElse(0.0));
+        stats.put("maxRate", chunkRates.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0));
+        return stats;
+    }
 
-        for (int i = 0; i < chunksToTick; i++) {
-            ChunkPos chunkPos = chunkArray[i];
+    /**
+     * Round-robin position and per-chunk tick accounting for one world.
+     * The cursor indexes ChunkManager's random tick array and carries over between ticks,
+     * so every chunk gets the same long-run share when the set is over budget.
+     */
+    private static class WorldTickState {
+        final long[] batch = new long[MAX_CHUNKS_PER_WORLD_PER_TICK]; // Chunks ticked this tick, reused
+        int cursor = 0; // Index of the next chunk to tick
+        long tick = 0; // Ticks this world has run random tick scheduling
+        long version = -1; // ChunkManager random tick version the accounting below matches
+        int chunkLimit = MAX_CHUNKS_PER_WORLD_PER_TICK; // Chunks attempted per tick, set by the MSPT controller
+        boolean throttled = false; // Whether the last adjustment backed off
+        float lastMspt = 0.0f; // Server tick time the last adjustment saw
+        long lastUsedNanos = 0; // Time spent random ticking last tick
+        int lastTicked = 0; // Chunks visited last tick
+        int deficit = 0; // Chunks left waiting last tick
+        long nextVanillaCheck = 0; // Tick after which vanillaTicked is refreshed
+        int lastVanillaSkipped = 0; // Chunks skipped last tick because vanilla ticks them
+        long vanillaSkipped = 0; // Chunks skipped because vanilla ticks them, all time
+        final LongOpenHashSet vanillaTicked = new LongOpenHashSet(); // Registered chunks vanilla random ticks itself
+        final Long2ObjectOpenHashMap<ChunkTickables> tickables = new Long2ObjectOpenHashMap<>(); // Tickable positions per chunk
 
-            // Ensure chunk is loaded before ticking
-            if (!world.isChunkLoaded(chunkPos.x, chunkPos.z)) {
-                continue;
+        final Long2LongOpenHashMap registeredAt = new Long2LongOpenHashMap(); // Tick each chunk joined
+        final LongArrayList added = new LongArrayList(); // Chunks that joined at the last sync
+        final Long2LongOpenHashMap ticksReceived = new Long2LongOpenHashMap(); // Rounds each chunk was ticked
+        final Long2LongOpenHashMap lastServed = new Long2LongOpenHashMap(); // Tick each chunk's debt was last settled
+        final Long2IntOpenHashMap debt = new Long2IntOpenHashMap(); // Rounds owed as of lastServed
+
+        /**
+         * Rounds a chunk is owed: its settled debt plus every tick since then that it missed,
+         * not counting the current one. Accrues lazily so skipped chunks cost nothing per tick.
+         */
+        int getDebt(long packed) {
+            long missed = Math.max(0, tick - lastServed.get(packed) - 1);
+            return (int) Math.min(Config.RANDOM_TICK_DEBT_CAP, debt.get(packed) + missed);
+        }
+
+        /**
+         * Mark a chunk as handled this tick, still owing the given rounds
+         */
+        void settleDebt(long packed, int owed) {
+            lastServed.put(packed, tick);
+            if (owed > 0) {
+                debt.put(packed, owed);
+            } else {
+                debt.remove(packed);
             }
+        }
 
-            WorldChunk chunk = world.getChunk(chunkPos.x, chunkPos.z);
-            applyRandomTicksToChunk(world, chunk, randomTickSpeed);
+        /**
+         * Multiplicative decrease while the server's average tick time is over target,
+         * additive increase while it keeps up
+         */
+        void adjustChunkLimit(float mspt) {
+            lastMspt = mspt;
+            throttled = mspt > Config.RANDOM_TICK_TARGET_MSPT;
+            if (throttled) {
+                chunkLimit = Math.max(MIN_CHUNKS_PER_WORLD_PER_TICK, chunkLimit * 3 / 4);
+            } else {
+                chunkLimit = Math.min(MAX_CHUNKS_PER_WORLD_PER_TICK, chunkLimit + CHUNK_LIMIT_STEP);
+            }
+        }
+
+        /**
+         * Bring the per-chunk accounting in line with a changed chunk set
+         */
+        void sync(long[] chunks, long newVersion) {
+            LongOpenHashSet current = new LongOpenHashSet(chunks);
+            LongIterator iterator = registeredAt.keySet().iterator();
+            while (iterator.hasNext()) {
+                long packed = iterator.nextLong();
+                if (!current.contains(packed)) {
+                    iterator.remove();
+                    ticksReceived.remove(packed);
+                    vanillaTicked.remove(packed);
+                    tickables.remove(packed);
+                    lastServed.remove(packed);
+                    debt.remove(packed);
+                }
+            }
+            added.clear();
+            for (long packed : chunks) {
+                if (!registeredAt.containsKey(packed)) {
+                    added.add(packed);
+                    registeredAt.put(packed, tick);
+                    lastServed.put(packed, tick);
+                }
+            }
+            version = newVersion;
         }
     }
 
     /**
-     * Apply random ticks to a specific chunk using public APIs
+     * Apply random ticks to a specific chunk using public APIs.
+     * Each of the randomTickSpeed draws per section picks one of 4096 positions as vanilla does,
+     * but only draws landing on a cached tickable position are looked up: a draw r below the
+     * tickable count selects entry r, which hits each tickable block with vanilla's probability.
+     * Positions are only made immutable for blocks that actually tick,
+     * since randomTick implementations may hold on to the position (e.g. scheduled ticks).
      */
-    private void applyRandomTicksToChunk(ServerWorld world, WorldChunk chunk, int randomTickSpeed) {
+    private void applyRandomTicksToChunk(ServerWorld world, WorldChunk chunk, ChunkTickables tickables, int randomTickSpeed) {
         ChunkSection[] sections = chunk.getSectionArray();
+        ChunkPos chunkPos = chunk.getPos();
+        int startX = chunkPos.getStartX();
+        int startZ = chunkPos.getStartZ();
 
         for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++) {
             ChunkSection section = sections[sectionIndex];
@@ -127,60 +429,76 @@ public class RandomTickOrchestrator {
             if (section == null || section.isEmpty() || !section.hasRandomTicks()) {
                 continue;
             }
+            if (tickables.prepareSection(sectionIndex, section) == 0) {
+                continue;
+            }
+
+            int baseY = chunk.sectionIndexToCoord(sectionIndex) << 4; // Convert section Y to block Y
+            tickSection(world, world.random, section, tickables, sectionIndex, startX, baseY, startZ, randomTickSpeed);
+        }
+
+        if (DEBUG_LOGGING) {
+            LOGGER.debug("Applied {} random ticks to chunk {}", randomTickSpeed, chunkPos);
+        }
+    }
 
-            // Calculate section Y coordinate
-            int sectionY = chunk.sectionIndexToCoord(sectionIndex);
-            int baseY = sectionY << 4; // Convert section Y to block Y
-
-            // Apply random ticks to this section
-            for (int tick = 0; tick < randomTickSpeed; tick++) {
-                // Pick random position within the chunk section
-                int localX = world.random.nextInt(16);
-                int localY = world.random.nextInt(16);
-                int localZ = world.random.nextInt(16);
-
-                int worldX = (chunk.getPos().x << 4) + localX;
-                int worldY = baseY + localY;
-                int worldZ = (chunk.getPos().z << 4) + localZ;
-
-                BlockPos pos = new BlockPos(worldX, worldY, worldZ);
-
-                // Apply random tick to block
-                BlockState blockState = section.getBlockState(localX, localY, localZ);
-                if (blockState.hasRandomTicks()) {
-                    try {
-                        blockState.randomTick(world, pos, world.random);
-                    } catch (Exception e) {
-                        if (DEBUG_LOGGING) {
-                            LOGGER.warn("Error during block random tick at {}: {}", pos, e.getMessage());
-                        }
+    /**
+     * Apply randomTickSpeed random ticks to one section whose tickable positions are already prepared.
+     * Takes the random separately from the world so a synthetic section can be driven on its own.
+     */
+    static void tickSection(ServerWorld world, Random random, ChunkSection section, ChunkTickables tickables,
+                            int sectionIndex, int startX, int baseY, int startZ, int randomTickSpeed) {
+        for (int tick = 0; tick < randomTickSpeed; tick++) {
+            // Re-read the count, ticking a block can change its neighbours' tickability
+            int draw = random.nextInt(4096);
+            if (draw >= tickables.getCount(sectionIndex)) {
+                continue; // Vanilla would have landed on a block that doesn't tick
+            }
+            // 12 bits: x in 0-3, z in 4-7, y in 8-11
+            int local = tickables.getPosition(sectionIndex, draw);
+            int localX = local & 15;
+            int localZ = (local >> 4) & 15;
+            int localY = (local >> 8) & 15;
+
+            BlockState blockState = section.getBlockState(localX, localY, localZ);
+            boolean blockTicks = blockState.hasRandomTicks();
+            FluidState fluidState = blockState.getFluidState();
+            boolean fluidTicks = fluidState.hasRandomTicks();
+            if (!blockTicks && !fluidTicks) {
+                continue;
+            }
+
+            BlockPos pos = new BlockPos(startX + localX, baseY + localY, startZ + localZ);
+
+            // Apply random tick to block
+            if (blockTicks) {
+                try {
+                    blockState.randomTick(world, pos, random);
+                } catch (Exception e) {
+                    if (DEBUG_LOGGING) {
+                        LOGGER.warn("Error during block random tick at {}: {}", pos, e.getMessage());
                     }
                 }
+            }
 
-                // Apply random tick to fluid
-                FluidState fluidState = section.getFluidState(localX, localY, localZ);
-                if (fluidState.hasRandomTicks()) {
-                    try {
-                        fluidState.onRandomTick(world, pos, world.random);
-                    } catch (Exception e) {
-                        if (DEBUG_LOGGING) {
-                            LOGGER.warn("Error during fluid random tick at {}: {}", pos, e.getMessage());
-                        }
+            // Apply random tick to fluid
+            if (fluidTicks) {
+                try {
+                    fluidState.onRandomTick(world, pos, random);
+                } catch (Exception e) {
+                    if (DEBUG_LOGGING) {
+                        LOGGER.warn("Error during fluid random tick at {}: {}", pos, e.getMessage());
                     }
                 }
             }
         }
-
-        if (DEBUG_LOGGING) {
-            LOGGER.debug("Applied {} random ticks to chunk {}", randomTickSpeed, chunk.getPos());
-        }
     }
 
     /**
      * Get current configuration for debugging
      */
     public String getConfigInfo() {
-        return String.format("RandomTickOrchestrator: max_chunks_per_world=%d, debug=%b",
-                           MAX_CHUNKS_PER_WORLD_PER_TICK, DEBUG_LOGGING);
+        return String.format("RandomTickOrchestrator: max_chunks_per_world=%d, budget_nanos=%d, target_mspt=%.1f, debug=%b",
+                           MAX_CHUNKS_PER_WORLD_PER_TICK, Config.RANDOM_TICK_BUDGET_NANOS, Config.RANDOM_TICK_TARGET_MSPT, DEBUG_LOGGING);
     }
 }
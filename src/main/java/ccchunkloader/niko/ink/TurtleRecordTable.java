@@ -0,0 +1,204 @@
+package ccchunkloader.niko.ink;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.util.math.ChunkPos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * NBT encoding of the per-turtle bootstrap records ChunkManager saves.
+ * Format 2 is columnar: one array per field instead of a compound per turtle, with UUID halves
+ * and packed chunk positions as long arrays, fuel and computer IDs as int arrays and wake flags
+ * as a bitset. Format 1 (a "turtleStates" list of compounds) is still read so old saves migrate
+ * on load; they are written back in format 2 on the next save.
+ */
+public final class TurtleRecordTable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TurtleRecordTable.class);
+
+    public static final int FORMAT_VERSION = 2;
+    private static final int NO_COMPUTER = -1; // computerIds entry for turtles without one
+
+    private static final String KEY_VERSION = "formatVersion";
+    private static final String KEY_UUID_MOST = "uuidMost";
+    private static final String KEY_UUID_LEAST = "uuidLeast";
+    private static final String KEY_POSITIONS = "positions";
+    private static final String KEY_FUEL = "fuel";
+    private static final String KEY_COMPUTER_IDS = "computerIds";
+    private static final String KEY_WAKE = "wakeFlags";
+    private static final String KEY_LEGACY_LIST = "turtleStates";
+
+    private TurtleRecordTable() {}
+
+    /**
+     * One turtle's saved bootstrap data
+     */
+    public static final class Record {
+        public final UUID turtleId;
+        public final ChunkPos position; // null only in legacy data missing it
+        public final int fuelLevel; // -1 only in legacy data missing it
+        public final boolean wakeOnWorldLoad;
+        public final Integer computerId; // null if not known
+
+        public Record(UUID turtleId, ChunkPos position, int fuelLevel, boolean wakeOnWorldLoad, Integer computerId) {
+            this.turtleId = turtleId;
+            this.position = position;
+            this.fuelLevel = fuelLevel;
+            this.wakeOnWorldLoad = wakeOnWorldLoad;
+            this.computerId = computerId;
+        }
+    }
+
+    /**
+     * Write records into the compound in the current format.
+     * Every record must have a position.
+     */
+    public static void write(NbtCompound nbt, List<Record> records) {
+        int count = records.size();
+        long[] uuidMost = new long[count];
+        long[] uuidLeast = new long[count];
+        long[] positions = new long[count];
+        int[] fuel = new int[count];
+        int[] computerIds = new int[count];
+        long[] wakeFlags = new long[(count + 63) >> 6];
+
+        for (int i = 0; i < count; i++) {
+            Record record = records.get(i);
+            uuidMost[i] = record.turtleId.getMostSignificantBits();
+            uuidLeast[i] = record.turtleId.getLeastSignificantBits();
+            positions[i] = record.position.toLong();
+            fuel[i] = record.fuelLevel;
+            computerIds[i] = record.computerId != null ? record.computerId : NO_COMPUTER;
+            if (record.wakeOnWorldLoad) {
+                wakeFlags[i >> 6] |= 1L << (i & 63);
+            }
+        }
+
+        nbt.putInt(KEY_VERSION, FORMAT_VERSION);
+        nbt.putLongArray(KEY_UUID_MOST, uuidMost);
+        nbt.putLongArray(KEY_UUID_LEAST, uuidLeast);
+        nbt.putLongArray(KEY_POSITIONS, positions);
+        nbt.putIntArray(KEY_FUEL, fuel);
+        nbt.putIntArray(KEY_COMPUTER_IDS, computerIds);
+        nbt.putLongArray(KEY_WAKE, wakeFlags);
+    }
+
+    /**
+     * Read records in either format
+     */
+    public static List<Record> read(NbtCompound nbt) {
+        if (nbt.contains(KEY_VERSION)) {
+            return readColumns(nbt);
+        }
+        if (nbt.contains(KEY_LEGACY_LIST)) {
+            return readLegacy(nbt.getList(KEY_LEGACY_LIST, 10));
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Check the compound was written in the current format
+     */
+    public static boolean isCurrentFormat(NbtCompound nbt) {
+        return nbt.getInt(KEY_VERSION) == FORMAT_VERSION;
+    }
+
+    /**
+     * Number of records stored, without decoding them
+     */
+    public static int count(NbtCompound nbt) {
+        if (nbt.contains(KEY_VERSION)) {
+            return nbt.getLongArray(KEY_UUID_MOST).length;
+        }
+        return nbt.getList(KEY_LEGACY_LIST, 10).size();
+    }
+
+    /**
+     * Index the records without decoding them, sharing the compound's arrays.
+     * @return the index, or null if the compound isn't in the columnar format (read it instead)
+     */
+    public static DormantTurtleIndex openIndex(NbtCompound nbt) {
+        if (!nbt.contains(KEY_VERSION)) {
+            return null;
+        }
+        checkVersion(nbt);
+        long[] uuidMost = nbt.getLongArray(KEY_UUID_MOST);
+        long[] uuidLeast = nbt.getLongArray(KEY_UUID_LEAST);
+        long[] positions = nbt.getLongArray(KEY_POSITIONS);
+        int[] fuel = nbt.getIntArray(KEY_FUEL);
+        int[] computerIds = nbt.getIntArray(KEY_COMPUTER_IDS);
+        long[] wakeFlags = nbt.getLongArray(KEY_WAKE);
+        if (!columnsMatch(uuidMost, uuidLeast, positions, fuel, computerIds, wakeFlags)) {
+            return new DormantTurtleIndex(new long[0], new long[0], new long[0], new int[0], new int[0], new long[0]);
+        }
+        return new DormantTurtleIndex(uuidMost, uuidLeast, positions, fuel, computerIds, wakeFlags);
+    }
+
+    private static void checkVersion(NbtCompound nbt) {
+        int version = nbt.getInt(KEY_VERSION);
+        if (version > FORMAT_VERSION) {
+            LOGGER.warn("Turtle records were saved in format {}, newer than supported format {}; reading what we can",
+                       version, FORMAT_VERSION);
+        }
+    }
+
+    private static boolean columnsMatch(long[] uuidMost, long[] uuidLeast, long[] positions, int[] fuel,
+                                        int[] computerIds, long[] wakeFlags) {
+        int count = uuidMost.length;
+        if (uuidLeast.length != count || positions.length != count || fuel.length != count
+                || computerIds.length != count || wakeFlags.length < (count + 63) >> 6) {
+            LOGGER.error("Turtle record columns have mismatched lengths, discarding {} records", count);
+            return false;
+        }
+        return true;
+    }
+
+    private static List<Record> readColumns(NbtCompound nbt) {
+        checkVersion(nbt);
+        long[] uuidMost = nbt.getLongArray(KEY_UUID_MOST);
+        long[] uuidLeast = nbt.getLongArray(KEY_UUID_LEAST);
+        long[] positions = nbt.getLongArray(KEY_POSITIONS);
+        int[] fuel = nbt.getIntArray(KEY_FUEL);
+        int[] computerIds = nbt.getIntArray(KEY_COMPUTER_IDS);
+        long[] wakeFlags = nbt.getLongArray(KEY_WAKE);
+        if (!columnsMatch(uuidMost, uuidLeast, positions, fuel, computerIds, wakeFlags)) {
+            return new ArrayList<>();
+        }
+
+        int count = uuidMost.length;
+
+        List<Record> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean wake = (wakeFlags[i >> 6] & (1L << (i & 63))) != 0;
+            Integer computerId = computerIds[i] != NO_COMPUTER ? computerIds[i] : null;
+            records.add(new Record(new UUID(uuidMost[i], uuidLeast[i]), new ChunkPos(positions[i]), fuel[i], wake, computerId));
+        }
+        return records;
+    }
+
+    private static List<Record> readLegacy(NbtList turtleStates) {
+        List<Record> records = new ArrayList<>(turtleStates.size());
+        for (int i = 0; i < turtleStates.size(); i++) {
+            NbtCompound stateData = turtleStates.getCompound(i);
+            try {
+                UUID turtleId = UUID.fromString(stateData.getString("uuid"));
+                ChunkPos position = null;
+                if (stateData.contains("lastChunkX") && stateData.contains("lastChunkZ")) {
+                    position = new ChunkPos(stateData.getInt("lastChunkX"), stateData.getInt("lastChunkZ"));
+                }
+                int fuelLevel = stateData.contains("fuelLevel") ? stateData.getInt("fuelLevel") : -1;
+                boolean wake = stateData.contains("wakeOnWorldLoad") && stateData.getBoolean("wakeOnWorldLoad");
+                Integer computerId = stateData.contains("computerId") ? stateData.getInt("computerId") : null;
+                records.add(new Record(turtleId, position, fuelLevel, wake, computerId));
+            } catch (Exception e) {
+                LOGGER.error("Failed to read legacy turtle record from NBT.", e);
+            }
+        }
+        LOGGER.info("Migrating {} turtle records from the legacy list format", records.size());
+        return records;
+    }
+}
@@ -0,0 +1,117 @@
+package ccchunkloader.niko.ink;
+
+import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Queue of turtles waiting to be woken on world load.
+ * Wakes are handed out a few per tick so a world with many opted-in turtles doesn't load all
+ * their chunks in one burst. Higher priority turtles go first, then those with the most fuel.
+ * Not thread-safe - callers synchronize externally.
+ */
+public class WakeScheduler {
+    /**
+     * One turtle waiting to be woken
+     */
+    public static final class Wake {
+        public final UUID turtleId;
+        public final ChunkPos chunkPos;
+        public final int fuelLevel;
+        public final int priority;
+
+        public Wake(UUID turtleId, ChunkPos chunkPos, int fuelLevel, int priority) {
+            this.turtleId = turtleId;
+            this.chunkPos = chunkPos;
+            this.fuelLevel = fuelLevel;
+            this.priority = priority;
+        }
+    }
+
+    private static final Comparator<Wake> ORDER = Comparator
+        .comparingInt((Wake wake) -> -wake.priority)
+        .thenComparingInt(wake -> -wake.fuelLevel);
+
+    private final ObjectHeapPriorityQueue<Wake> queue = new ObjectHeapPriorityQueue<>(ORDER);
+    private final Set<UUID> queued = new HashSet<>(); // Turtles in the queue, so repeat bootstraps don't double up
+    private long scheduled = 0;
+    private long woken = 0;
+    private long skipped = 0; // Already awake by the time their turn came
+    private long startTick = -1; // Tick the current run of wakes began, -1 if none yet
+    private long finishTick = -1; // Tick the queue last drained
+    private int lastTickWoken = 0;
+
+    /**
+     * Queue a turtle to be woken
+     * @return false if it was already queued
+     */
+    public boolean schedule(Wake wake, long currentTick) {
+        if (!queued.add(wake.turtleId)) {
+            return false;
+        }
+        if (queue.isEmpty()) {
+            startTick = currentTick;
+            finishTick = -1;
+        }
+        queue.enqueue(wake);
+        scheduled++;
+        return true;
+    }
+
+    /**
+     * Take the next turtle to wake
+     * @return the wake, or null if the queue is empty
+     */
+    public Wake poll(long currentTick) {
+        if (queue.isEmpty()) {
+            return null;
+        }
+        Wake wake = queue.dequeue();
+        queued.remove(wake.turtleId);
+        if (queue.isEmpty()) {
+            finishTick = currentTick;
+        }
+        return wake;
+    }
+
+    /**
+     * Record how a tick's wakes went
+     */
+    public void recordTick(int wokenThisTick, int skippedThisTick) {
+        woken += wokenThisTick;
+        skipped += skippedThisTick;
+        lastTickWoken = wokenThisTick;
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Number of turtles still waiting
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Get wake counters for debugging
+     */
+    public Map<String, Object> getStats(long currentTick) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pending", queue.size());
+        stats.put("scheduled", scheduled);
+        stats.put("woken", woken);
+        stats.put("skipped", skipped);
+        stats.put("lastTickWoken", lastTickWoken);
+        long end = finishTick >= 0 ? finishTick : currentTick;
+        stats.put("elapsedTicks", startTick >= 0 ? end - startTick : 0L);
+        return stats;
+    }
+}
@@ -0,0 +1,24 @@
+package ccchunkloader.niko.ink.mixin;
+
+import ccchunkloader.niko.ink.RandomTickOrchestrator;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Reports block changes to the random tick orchestrator's tickable position caches
+ */
+@Mixin(WorldChunk.class)
+public abstract class WorldChunkMixin {
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void ccchunkloader$onSetBlockState(BlockPos pos, BlockState state, boolean moved, CallbackInfoReturnable<BlockState> cir) {
+        BlockState previous = cir.getReturnValue();
+        if (previous != null) { // null when nothing changed
+            RandomTickOrchestrator.onBlockChanged(((WorldChunk) (Object) this).getWorld(), pos, previous, state);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package ccchunkloader.niko.ink;
+
+import dan200.computercraft.api.turtle.ITurtleAccess;
+import dan200.computercraft.api.turtle.TurtleSide;
+import dan200.computercraft.shared.computer.core.ServerComputer;
+import dan200.computercraft.shared.turtle.blocks.TurtleBlockEntity;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.WorldSavePath;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the per-tick update of a stationary, chunk-loading turtle with unchanged fuel allocates nothing.
+ * The turtle is a plain proxy rather than a Mockito mock, since Mockito allocates on every
+ * recorded call and the turtle is called each tick.
+ */
+class ChunkLoaderPeripheralAllocationTest {
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 10_000;
+    private static final Integer FUEL_LEVEL = 500; // Boxed once so the proxy doesn't allocate per call
+    private static final double RADIUS = 2.0;
+    // Small enough that the fuel debt never reaches a whole unit, so the turtle's fuel stays unchanged
+    private static final double TINY_FUEL_COST = 1e-9;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @TempDir
+    Path saveRoot;
+
+    private ServerWorld world;
+    private ChunkLoaderPeripheral peripheral;
+    private double savedFuelCost;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    @BeforeEach
+    void setUp() {
+        savedFuelCost = Config.BASE_FUEL_COST_PER_CHUNK;
+        Config.BASE_FUEL_COST_PER_CHUNK = TINY_FUEL_COST;
+        ChunkFootprint.invalidateAll(); // Templates cache fuel costs
+
+        MinecraftServer server = mock(MinecraftServer.class);
+        when(server.getSavePath(WorldSavePath.ROOT)).thenReturn(saveRoot);
+
+        // Lets the peripheral register its computer during warmup, with its own upgrade still equipped
+        ServerComputer computer = mock(ServerComputer.class);
+        when(computer.getID()).thenReturn(7);
+        TurtleBlockEntity turtleEntity = mock(TurtleBlockEntity.class);
+        when(turtleEntity.getServerComputer()).thenReturn(computer);
+        when(turtleEntity.getUpgrade(TurtleSide.LEFT)).thenReturn(mock(ChunkLoaderUpgrade.class));
+
+        world = mock(ServerWorld.class);
+        when(world.getRegistryKey()).thenReturn(World.OVERWORLD);
+        when(world.getServer()).thenReturn(server);
+        when(world.getBlockEntity(any())).thenReturn(turtleEntity);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (peripheral != null) {
+            ChunkLoaderRegistry.unregister(peripheral.getTurtleId());
+        }
+        ChunkManager.cleanupWorld(world);
+        Config.BASE_FUEL_COST_PER_CHUNK = savedFuelCost;
+        ChunkFootprint.invalidateAll();
+    }
+
+    @Test
+    void fullyLoadingTurtleAllocatesNothingPerTick() {
+        assertNoAllocationPerTick(LoadLevel.FULL);
+    }
+
+    @Test
+    void reducedLevelTurtleAllocatesNothingPerTick() {
+        // Non-FULL levels also look up whether the backend honours them when costing fuel
+        assertNoAllocationPerTick(LoadLevel.BLOCK);
+    }
+
+    private void assertNoAllocationPerTick(LoadLevel loadLevel) {
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM can't measure thread allocation");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        StationaryTurtle turtle = new StationaryTurtle(new BlockPos(40, 64, -72));
+        turtle.upgradeData.putDouble("Radius", RADIUS);
+        turtle.upgradeData.putString("LoadLevel", loadLevel.getName());
+        // Built off-world so the constructor skips the server-side state manager
+        peripheral = new ChunkLoaderPeripheral(turtle.access, TurtleSide.LEFT);
+        turtle.level = world;
+
+        // First ticks register the turtle, its computer and its footprint; later ones let the JIT settle
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            peripheral.updateChunkLoading();
+        }
+        assertEquals(ChunkFootprint.forRadius(RADIUS, false).getOffsets().length, peripheral.getLoadedChunkCount(),
+            "Turtle should be loading its whole footprint");
+        assertEquals(RADIUS, peripheral.getRadius(), "Turtle should not have run out of fuel");
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            peripheral.updateChunkLoading();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Integer division leaves room for a one-off allocation, but not for one every tick
+        assertEquals(0, allocated / MEASURED_TICKS,
+            "Steady-state tick allocated " + allocated + " bytes over " + MEASURED_TICKS + " ticks");
+    }
+
+    /**
+     * Turtle that never moves and never uses fuel
+     */
+    private static final class StationaryTurtle {
+        final ITurtleAccess access;
+        final BlockPos position;
+        final NbtCompound upgradeData = new NbtCompound();
+        World level;
+
+        StationaryTurtle(BlockPos position) {
+            this.position = position;
+            this.access = (ITurtleAccess) Proxy.newProxyInstance(ITurtleAccess.class.getClassLoader(),
+                new Class<?>[] { ITurtleAccess.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "getLevel" -> level;
+                    case "getPosition" -> this.position;
+                    case "getFuelLevel" -> FUEL_LEVEL;
+                    case "getUpgradeNBTData" -> upgradeData;
+                    case "updateUpgradeNBTData" -> null;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StationaryTurtle" + this.position;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+}
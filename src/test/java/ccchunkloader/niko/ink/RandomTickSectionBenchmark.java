@@ -0,0 +1,189 @@
+package ccchunkloader.niko.ink;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.LocalRandom;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.ReadableContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the old applyRandomTicksToChunk loop with RandomTickOrchestrator.tickSection on
+ * synthetic sections: coordinate draws, bytes allocated and time per random tick.
+ * A harness rather than JMH, so it runs with the existing test setup; timings are printed,
+ * draws and allocation are asserted.
+ */
+class RandomTickSectionBenchmark {
+    private static final int SECTIONS = 64;
+    private static final int SAPLING_SPACING = 8; // One tickable block in every 8 positions
+    private static final int RANDOM_TICK_SPEED = 3;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 2_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void newLoopDrawsOncePerTickAndAllocatesLess() {
+        ChunkSection[] sections = new ChunkSection[SECTIONS];
+        for (int i = 0; i < SECTIONS; i++) {
+            sections[i] = syntheticSection();
+        }
+        WorldChunk chunk = mock(WorldChunk.class);
+        when(chunk.getSectionArray()).thenReturn(sections);
+        ChunkTickables tickables = new ChunkTickables(chunk);
+        for (int i = 0; i < SECTIONS; i++) {
+            tickables.prepareSection(i, sections[i]);
+        }
+        // Saplings only grow in light, which the mocked world never reports, so ticks change nothing
+        ServerWorld world = mock(ServerWorld.class);
+
+        Result legacy = measure(random -> {
+            for (int i = 0; i < SECTIONS; i++) {
+                legacyTickSection(world, random, sections[i], 0, i << 4, 0, RANDOM_TICK_SPEED);
+            }
+        });
+        Result current = measure(random -> {
+            for (int i = 0; i < SECTIONS; i++) {
+                RandomTickOrchestrator.tickSection(world, random, sections[i], tickables, i, 0, i << 4, 0, RANDOM_TICK_SPEED);
+            }
+        });
+
+        System.out.printf("random tick loop, per tick: old %.1f ns / %.1f B / %.2f draws, new %.1f ns / %.1f B / %.2f draws%n",
+            legacy.nanosPerTick(), legacy.bytesPerTick(), legacy.drawsPerTick(),
+            current.nanosPerTick(), current.bytesPerTick(), current.drawsPerTick());
+
+        assertEquals(3.0, legacy.drawsPerTick(), 1e-9);
+        assertEquals(1.0, current.drawsPerTick(), 1e-9);
+        assertTrue(current.bytes < legacy.bytes,
+            "New loop allocated " + current.bytes + " bytes vs. " + legacy.bytes + " for the old one");
+    }
+
+    private static Result measure(Round round) {
+        CountingRandom random = new CountingRandom(42L);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run(random);
+        }
+        random.coordinateDraws = 0;
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run(random);
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        return new Result(nanos, bytes, random.coordinateDraws);
+    }
+
+    /**
+     * Stone with a sapling every SAPLING_SPACING positions
+     */
+    @SuppressWarnings("unchecked")
+    private static ChunkSection syntheticSection() {
+        PalettedContainer<BlockState> states = new PalettedContainer<>(Block.STATE_IDS, Blocks.AIR.getDefaultState(),
+                                                                       PalettedContainer.PaletteProvider.BLOCK_STATE);
+        ChunkSection section = new ChunkSection(0, states, mock(ReadableContainer.class));
+        for (int local = 0; local < 4096; local++) {
+            BlockState state = local % SAPLING_SPACING == 0 ? Blocks.OAK_SAPLING.getDefaultState() : Blocks.STONE.getDefaultState();
+            section.setBlockState(local & 15, (local >> 8) & 15, (local >> 4) & 15, state, false);
+        }
+        return section;
+    }
+
+    /**
+     * The loop as it was before: three draws, a new BlockPos and two state lookups per tick
+     */
+    private static void legacyTickSection(ServerWorld world, net.minecraft.util.math.random.Random random, ChunkSection section,
+                                          int startX, int baseY, int startZ, int randomTickSpeed) {
+        for (int tick = 0; tick < randomTickSpeed; tick++) {
+            int localX = random.nextInt(16);
+            int localY = random.nextInt(16);
+            int localZ = random.nextInt(16);
+
+            BlockPos pos = new BlockPos(startX + localX, baseY + localY, startZ + localZ);
+
+            BlockState blockState = section.getBlockState(localX, localY, localZ);
+            if (blockState.hasRandomTicks()) {
+                blockState.randomTick(world, pos, random);
+            }
+            FluidState fluidState = section.getFluidState(localX, localY, localZ);
+            if (fluidState.hasRandomTicks()) {
+                fluidState.onRandomTick(world, pos, random);
+            }
+        }
+    }
+
+    private interface Round {
+        void run(CountingRandom random);
+    }
+
+    private static final class Result {
+        final long nanos;
+        final long bytes;
+        final long draws;
+
+        Result(long nanos, long bytes, long draws) {
+            this.nanos = nanos;
+            this.bytes = bytes;
+            this.draws = draws;
+        }
+
+        double nanosPerTick() {
+            return (double) nanos / ticks();
+        }
+
+        double bytesPerTick() {
+            return (double) bytes / ticks();
+        }
+
+        double drawsPerTick() {
+            return (double) draws / ticks();
+        }
+
+        private static long ticks() {
+            return (long) MEASURED_ROUNDS * SECTIONS * RANDOM_TICK_SPEED;
+        }
+    }
+
+    /**
+     * Counts the draws made to pick positions, not those made by the blocks being ticked
+     */
+    private static final class CountingRandom extends LocalRandom {
+        long coordinateDraws = 0;
+
+        CountingRandom(long seed) {
+            super(seed);
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            if (bound == 16 || bound == 4096) {
+                coordinateDraws++;
+            }
+            return super.nextInt(bound);
+        }
+    }
+}